@@ -15,12 +15,13 @@ package org.assertj.core.api;
 import java.util.Iterator;
 
 import org.assertj.core.internal.Iterators;
+import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
  * <p>Base class for all implementations of assertions for {@link Iterator}s.</p>
  * <p>Note that none of the assertions modify the actual iterator, i.e. they do not consume any elements.
- * In order to use consuming assertions, use {@link #toIterable()}.</p>
+ * In order to use consuming assertions, use {@link #consuming()} or {@link #toIterable()}.</p>
  *
  * @param <SELF> the "self" type of this assertion class.
  * @param <ELEMENT> the type of elements.
@@ -78,6 +79,24 @@ public abstract class AbstractIteratorAssert<SELF extends AbstractIteratorAssert
     return myself;
   }
 
+  /**
+   * <p>Creates a new {@link ConsumingIteratorAssert} from this {@link IteratorAssert} which allows for using assertions
+   * consuming the remaining elements of the actual {@code Iterator} one at a time, without collecting them like
+   * {@link #toIterable()} does.</p>
+   * Example:
+   * <pre><code class='java'> Iterator&lt;Record&gt; records = segment.cursor();
+   *
+   * assertThat(records).consuming().allSatisfy(record -&gt; assertThat(record.isValid()).isTrue());</code></pre>
+   *
+   * <p>As the consumed elements are gone, a single consuming assertion can be performed.</p>
+   *
+   * @return the new {@link ConsumingIteratorAssert}.
+   */
+  @CheckReturnValue
+  public ConsumingIteratorAssert<ELEMENT> consuming() {
+    return new ConsumingIteratorAssert<ELEMENT>(actual).withAssertionState(myself);
+  }
+
   /**
    * <p>Creates a new {@link IterableAssert} from this {@link IteratorAssert} which allows for
    * using any Iterable assertions like {@link IterableAssert#contains(Object[])}.</p>
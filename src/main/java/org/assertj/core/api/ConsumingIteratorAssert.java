@@ -0,0 +1,219 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+import org.assertj.core.internal.Iterators;
+import org.assertj.core.util.CheckReturnValue;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions consuming the elements of an {@link Iterator}, each element is visited once without being collected in a
+ * {@link java.util.List}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link AbstractIteratorAssert#consuming()}</code>.
+ * <p>
+ * Each assertion only keeps what it needs to check the remaining elements and stops consuming the iterator as soon as its
+ * outcome is known, which allows checking iterators over more elements than fit in memory. As the consumed elements are
+ * gone, a single assertion can be performed, chaining another one throws an {@link IllegalStateException}.
+ * <p>
+ * Since the iterator elements are not all known when an assertion fails, error messages refer to the iterator as
+ * {@code "Iterator under test"}.
+ *
+ * @param <ELEMENT> the type of elements of the "actual" iterator.
+ */
+public class ConsumingIteratorAssert<ELEMENT>
+    extends AbstractAssert<ConsumingIteratorAssert<ELEMENT>, Iterator<? extends ELEMENT>> {
+
+  @VisibleForTesting
+  Iterators iterators = Iterators.instance();
+
+  private boolean consumed;
+
+  public ConsumingIteratorAssert(Iterator<? extends ELEMENT> actual) {
+    super(actual, ConsumingIteratorAssert.class);
+  }
+
+  /**
+   * Verifies that all the remaining elements of the actual iterator satisfy the given requirements expressed as a
+   * {@link Consumer}, the iterator is consumed until an element does not satisfy them.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c").iterator()).consuming().allSatisfy(s -&gt; assertThat(s).hasSize(1));
+   *
+   * // assertion will fail
+   * assertThat(list("a", "bb", "c").iterator()).consuming().allSatisfy(s -&gt; assertThat(s).hasSize(1));</code></pre>
+   *
+   * @param requirements the given {@link Consumer}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@link Consumer} is {@code null}.
+   * @throws AssertionError if an element does not satisfy the given requirements.
+   * @throws IllegalStateException if the iterator has already been consumed by a previous assertion.
+   */
+  public ConsumingIteratorAssert<ELEMENT> allSatisfy(Consumer<? super ELEMENT> requirements) {
+    return consume(iterator -> iterators.assertAllSatisfy(info, iterator, requirements));
+  }
+
+  /**
+   * Verifies that at least one of the remaining elements of the actual iterator satisfies the given requirements
+   * expressed as a {@link Consumer}, the iterator is consumed until an element satisfies them.
+   * <p>
+   * If no element satisfies the requirements, the error message only reports why the first element did not.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "bb", "c").iterator()).consuming().anySatisfy(s -&gt; assertThat(s).hasSize(2));
+   *
+   * // assertion will fail
+   * assertThat(list("a", "b", "c").iterator()).consuming().anySatisfy(s -&gt; assertThat(s).hasSize(2));</code></pre>
+   *
+   * @param requirements the given {@link Consumer}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given {@link Consumer} is {@code null}.
+   * @throws AssertionError if no element satisfies the given requirements.
+   * @throws IllegalStateException if the iterator has already been consumed by a previous assertion.
+   */
+  public ConsumingIteratorAssert<ELEMENT> anySatisfy(Consumer<? super ELEMENT> requirements) {
+    return consume(iterator -> iterators.assertAnySatisfy(info, iterator, requirements));
+  }
+
+  /**
+   * Verifies that the remaining elements of the actual iterator contain the given subsequence in the correct order
+   * (possibly with other values between them), the iterator is consumed until the whole subsequence is found.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c", "d").iterator()).consuming().containsSubsequence("a", "c");
+   *
+   * // assertion will fail
+   * assertThat(list("a", "b", "c", "d").iterator()).consuming().containsSubsequence("c", "a");</code></pre>
+   *
+   * @param subsequence the subsequence of objects to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the given argument is an empty array and the actual iterator is not exhausted.
+   * @throws AssertionError if the actual iterator does not contain the given subsequence.
+   * @throws IllegalStateException if the iterator has already been consumed by a previous assertion.
+   */
+  @SafeVarargs
+  public final ConsumingIteratorAssert<ELEMENT> containsSubsequence(ELEMENT... subsequence) {
+    return consume(iterator -> iterators.assertContainsSubsequence(info, iterator, subsequence));
+  }
+
+  /**
+   * Verifies that the remaining elements of the actual iterator start with the given sequence of objects, without any
+   * other objects between them. Only the elements compared to the sequence are consumed.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c").iterator()).consuming().startsWith("a", "b");
+   *
+   * // assertion will fail
+   * assertThat(list("a", "b", "c").iterator()).consuming().startsWith("b", "c");</code></pre>
+   *
+   * @param sequence the sequence of objects to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the given argument is an empty array and the actual iterator is not exhausted.
+   * @throws AssertionError if the actual iterator does not start with the given sequence of objects.
+   * @throws IllegalStateException if the iterator has already been consumed by a previous assertion.
+   */
+  @SafeVarargs
+  public final ConsumingIteratorAssert<ELEMENT> startsWith(ELEMENT... sequence) {
+    return consume(iterator -> iterators.assertStartsWith(info, iterator, sequence));
+  }
+
+  /**
+   * Verifies that the remaining elements of the actual iterator are sorted in ascending order according to their natural
+   * ordering. Only the previous element is kept to check the next one, the iterator is consumed until an element is not
+   * in order.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list(1, 2, 2, 3).iterator()).consuming().isSorted();
+   *
+   * // assertion will fail
+   * assertThat(list(1, 3, 2).iterator()).consuming().isSorted();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the remaining elements are not sorted in ascending order.
+   * @throws AssertionError if the remaining elements are not mutually comparable.
+   * @throws IllegalStateException if the iterator has already been consumed by a previous assertion.
+   */
+  public ConsumingIteratorAssert<ELEMENT> isSorted() {
+    return consume(iterator -> iterators.assertIsSorted(info, iterator));
+  }
+
+  /**
+   * Verifies that the number of remaining elements in the actual iterator is less than the given boundary, at most
+   * {@code boundary} elements are consumed.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c").iterator()).consuming().hasSizeLessThan(4);
+   *
+   * // assertion will fail
+   * assertThat(list("a", "b", "c").iterator()).consuming().hasSizeLessThan(3);</code></pre>
+   *
+   * @param boundary the given value to compare the number of remaining elements to.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the number of remaining elements is greater than or equal to the boundary.
+   * @throws IllegalStateException if the iterator has already been consumed by a previous assertion.
+   */
+  public ConsumingIteratorAssert<ELEMENT> hasSizeLessThan(int boundary) {
+    return consume(iterator -> iterators.assertHasSizeLessThan(info, iterator, boundary));
+  }
+
+  /**
+   * Navigate and allow to perform assertions on the element at the given index of the remaining elements of the actual
+   * iterator, the iterator is consumed up to this element.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(list("a", "b", "c").iterator()).consuming().elementAt(1).isEqualTo("b");
+   *
+   * // assertion will fail
+   * assertThat(list("a", "b", "c").iterator()).consuming().elementAt(3);</code></pre>
+   *
+   * @param index the element's index.
+   * @return the assertion on the element at the given index.
+   * @throws IllegalArgumentException if the given index is negative.
+   * @throws AssertionError if the actual iterator has no element at the given index.
+   * @throws IllegalStateException if the iterator has already been consumed by a previous assertion.
+   */
+  @CheckReturnValue
+  public ObjectAssert<ELEMENT> elementAt(int index) {
+    markConsumed();
+    ELEMENT element = iterators.assertHasElementAt(info, actual, index);
+    String text = descriptionText();
+    String description = (text.isEmpty() ? "Iterator" : text) + " element at index " + index;
+    return new ObjectAssert<>(element).as(description);
+  }
+
+  private ConsumingIteratorAssert<ELEMENT> consume(Consumer<Iterator<? extends ELEMENT>> assertion) {
+    markConsumed();
+    assertion.accept(actual);
+    return myself;
+  }
+
+  private void markConsumed() {
+    if (consumed) {
+      throw new IllegalStateException("The iterator under test has already been consumed by a previous assertion, consuming assertions can't be chained");
+    }
+    consumed = true;
+  }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.internal.ComparisonStrategy;
+import org.assertj.core.internal.LazyStreams;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Assertions visiting the elements of a {@link Stream} once, without collecting them in a {@link java.util.List}.
+ * <p>
+ * To create an instance of this class, invoke <code>{@link ListAssert#lazily()}</code> on the assertions of a
+ * {@link Stream}.
+ * <p>
+ * Each assertion only keeps what it needs to check the elements and stops visiting the stream as soon as its outcome is
+ * known, which allows checking streams too large to fit in memory. As a stream can only be visited once, a single
+ * assertion can be performed, chaining another one throws an {@link IllegalStateException}.
+ * <p>
+ * Since the stream elements are not all known when an assertion fails, error messages refer to the stream as
+ * {@code "Stream under test"}.
+ *
+ * @param <ELEMENT> the type of elements of the "actual" stream.
+ */
+public class LazyStreamAssert<ELEMENT> extends AbstractAssert<LazyStreamAssert<ELEMENT>, Stream<? extends ELEMENT>> {
+
+  @VisibleForTesting
+  LazyStreams lazyStreams = LazyStreams.instance();
+
+  private boolean visited;
+
+  public LazyStreamAssert(Stream<? extends ELEMENT> actual) {
+    super(actual, LazyStreamAssert.class);
+  }
+
+  LazyStreamAssert(Stream<? extends ELEMENT> actual, ComparisonStrategy comparisonStrategy) {
+    this(actual);
+    this.lazyStreams = new LazyStreams(comparisonStrategy);
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream match the given {@link Predicate}, the stream is visited until an
+   * element does not match it.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of("a", "b", "c")).lazily().allMatch(s -&gt; s.length() == 1);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of("a", "b", "cc")).lazily().allMatch(s -&gt; s.length() == 1);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if an element does not satisfy the given predicate.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  public LazyStreamAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate) {
+    return visit(stream -> lazyStreams.assertAllMatch(info, stream, predicate, PredicateDescription.GIVEN));
+  }
+
+  /**
+   * Verifies that all the elements of the actual stream match the given {@link Predicate}, the stream is visited until an
+   * element does not match it. The predicate description is used to get an informative error message.
+   *
+   * @param predicate the given {@link Predicate}.
+   * @param predicateDescription a description of the {@link Predicate} used in the error message
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if an element does not satisfy the given predicate.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  public LazyStreamAssert<ELEMENT> allMatch(Predicate<? super ELEMENT> predicate, String predicateDescription) {
+    return visit(stream -> lazyStreams.assertAllMatch(info, stream, predicate, new PredicateDescription(predicateDescription)));
+  }
+
+  /**
+   * Verifies that at least one element of the actual stream matches the given {@link Predicate}, the stream is visited
+   * until an element matches it.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of("a", "bb", "c")).lazily().anyMatch(s -&gt; s.length() == 2);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of("a", "b", "c")).lazily().anyMatch(s -&gt; s.length() == 2);</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if no element satisfies the given predicate.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  public LazyStreamAssert<ELEMENT> anyMatch(Predicate<? super ELEMENT> predicate) {
+    return visit(stream -> lazyStreams.assertAnyMatch(info, stream, predicate, PredicateDescription.GIVEN));
+  }
+
+  /**
+   * Verifies that no element of the actual stream matches the given {@link Predicate}, the stream is visited until an
+   * element matches it.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of("a", "b", "c")).lazily().noneMatch(s -&gt; s.isEmpty());
+   *
+   * // assertion will fail
+   * assertThat(Stream.of("a", "", "c")).lazily().noneMatch(s -&gt; s.isEmpty());</code></pre>
+   *
+   * @param predicate the given {@link Predicate}.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if an element satisfies the given predicate.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  public LazyStreamAssert<ELEMENT> noneMatch(Predicate<? super ELEMENT> predicate) {
+    return visit(stream -> lazyStreams.assertNoneMatch(info, stream, predicate, PredicateDescription.GIVEN));
+  }
+
+  /**
+   * Verifies that the number of elements in the actual stream is equal to the given one, the elements are counted
+   * without being kept.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(IntStream.range(0, 10_000_000)).lazily().hasSize(10_000_000);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of("a", "b", "c")).lazily().hasSize(2);</code></pre>
+   *
+   * @param expected the expected number of elements.
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the number of elements in the actual stream is not equal to the given one.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  public LazyStreamAssert<ELEMENT> hasSize(int expected) {
+    return visit(stream -> lazyStreams.assertHasSize(info, stream, expected));
+  }
+
+  /**
+   * Verifies that the actual stream contains the given values, in any order. The stream is visited until all the values
+   * are found, only the values not found yet are kept.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(IntStream.range(0, 10_000_000)).lazily().contains(42, 1_000_000);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of("a", "b", "c")).lazily().contains("d");</code></pre>
+   *
+   * @param values the given values.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the given argument is an empty array and the actual stream is not empty.
+   * @throws AssertionError if the actual stream does not contain the given values.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  @SafeVarargs
+  public final LazyStreamAssert<ELEMENT> contains(ELEMENT... values) {
+    return visit(stream -> lazyStreams.assertContains(info, stream, values));
+  }
+
+  /**
+   * Verifies that the actual stream starts with the given sequence of objects, without any other objects between them.
+   * Only the first elements of the stream are visited, which makes this assertion usable with infinite streams.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.iterate(1, i -&gt; i + 1)).lazily().startsWith(1, 2, 3);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of("a", "b", "c")).lazily().startsWith("b", "c");</code></pre>
+   *
+   * @param sequence the sequence of objects to look for.
+   * @return {@code this} assertion object.
+   * @throws NullPointerException if the given argument is {@code null}.
+   * @throws AssertionError if the given argument is an empty array and the actual stream is not empty.
+   * @throws AssertionError if the actual stream does not start with the given sequence of objects.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  @SafeVarargs
+  public final LazyStreamAssert<ELEMENT> startsWith(ELEMENT... sequence) {
+    return visit(stream -> lazyStreams.assertStartsWith(info, stream, sequence));
+  }
+
+  /**
+   * Verifies that the actual stream is sorted in ascending order according to the natural ordering of its elements, or to
+   * the element comparator if one was set before calling {@link ListAssert#lazily()}. Only the previous element is kept
+   * to check the next one, the stream is visited until an element is not in order.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(IntStream.range(0, 10_000_000)).lazily().isSorted();
+   *
+   * // assertion will fail
+   * assertThat(Stream.of(1, 3, 2)).lazily().isSorted();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream is not sorted in ascending order.
+   * @throws AssertionError if the actual stream elements are not mutually comparable.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  public LazyStreamAssert<ELEMENT> isSorted() {
+    return visit(stream -> lazyStreams.assertIsSorted(info, stream));
+  }
+
+  /**
+   * Verifies that the actual stream does not contain duplicates. The distinct elements visited are kept to look for
+   * duplicates, the stream is visited until a duplicate is found.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertion will pass
+   * assertThat(Stream.of("a", "b", "c")).lazily().doesNotHaveDuplicates();
+   *
+   * // assertion will fail
+   * assertThat(Stream.of("a", "b", "a")).lazily().doesNotHaveDuplicates();</code></pre>
+   *
+   * @return {@code this} assertion object.
+   * @throws AssertionError if the actual stream contains duplicates.
+   * @throws IllegalStateException if the stream has already been visited by a previous assertion.
+   */
+  public LazyStreamAssert<ELEMENT> doesNotHaveDuplicates() {
+    return visit(stream -> lazyStreams.assertDoesNotHaveDuplicates(info, stream));
+  }
+
+  private LazyStreamAssert<ELEMENT> visit(Consumer<Stream<? extends ELEMENT>> assertion) {
+    if (visited) {
+      throw new IllegalStateException("The stream under test has already been visited by a previous assertion, lazy assertions can't be chained");
+    }
+    visited = true;
+    try {
+      assertion.accept(actual);
+    } finally {
+      if (actual != null) actual.close();
+    }
+    return myself;
+  }
+
+}
@@ -25,10 +25,12 @@ import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import org.assertj.core.api.iterable.ThrowingExtractor;
 import org.assertj.core.groups.Tuple;
 import org.assertj.core.internal.Failures;
+import org.assertj.core.util.CheckReturnValue;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
@@ -198,6 +200,35 @@ public class ListAssert<ELEMENT> extends
     return myself;
   }
 
+  /**
+   * Returns assertions visiting the elements of the actual {@link Stream} once instead of collecting them in a
+   * {@link List}, see {@link LazyStreamAssert}.
+   * <p>
+   * Each assertion only keeps what it needs to check the elements and stops visiting the stream as soon as its outcome is
+   * known, this is meant to check streams too large to fit in memory. As the stream can only be visited once, only one
+   * assertion can be performed on the returned object.
+   * <p>
+   * The element comparator set with {@link #usingElementComparator(java.util.Comparator) usingElementComparator} is used
+   * by the returned assertions.
+   * <p>
+   * Example :
+   * <pre><code class='java'> // assertions will pass
+   * assertThat(LongStream.range(0, 50_000_000)).lazily().isSorted();
+   * assertThat(Stream.of("a", "b", "c")).lazily().allMatch(s -&gt; s.length() == 1);
+   *
+   * // assertion will fail
+   * assertThat(Stream.of(1, 2, 1)).lazily().doesNotHaveDuplicates();</code></pre>
+   *
+   * @return assertions visiting the elements of the actual {@link Stream} once.
+   */
+  @CheckReturnValue
+  @SuppressWarnings("unchecked")
+  public LazyStreamAssert<ELEMENT> lazily() {
+    Stream<? extends ELEMENT> stream = actual instanceof ListFromStream ? asListFromStream().lazyStream()
+        : actual == null ? null : actual.stream();
+    return new LazyStreamAssert<ELEMENT>(stream, iterables.getComparisonStrategy()).withAssertionState(myself);
+  }
+
   private AssertionError actualDoesNotStartWithSequence(AssertionInfo info, Object[] sequence) {
     return Failures.instance()
                    .failure(info, shouldStartWith("Stream under test", sequence, iterables.getComparisonStrategy()));
@@ -223,6 +254,14 @@ public class ListAssert<ELEMENT> extends
       return list.stream();
     }
 
+    @SuppressWarnings("unchecked")
+    Stream<ELEMENT> lazyStream() {
+      // the stream elements have already been collected by a previous assertion
+      if (list != null) return list.stream();
+      if (stream instanceof Stream) return (Stream<ELEMENT>) stream;
+      return StreamSupport.stream(stream.spliterator(), stream.isParallel()).onClose(stream::close);
+    }
+
     private List<ELEMENT> initList() {
       if (list == null) {
         list = newArrayList(stream.iterator());
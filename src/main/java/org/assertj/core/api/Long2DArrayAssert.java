@@ -17,6 +17,7 @@ import static org.assertj.core.error.ShouldNotBeNull.shouldNotBeNull;
 import static org.assertj.core.error.SubarraysShouldHaveSameSize.subarraysShouldHaveSameSize;
 import static org.assertj.core.error.array2d.Array2dElementShouldBeDeepEqual.elementShouldBeEqual;
 
+import java.util.Arrays;
 import java.util.Comparator;
 
 import org.assertj.core.data.Index;
@@ -82,6 +83,8 @@ public class Long2DArrayAssert extends Abstract2DArrayAssert<Long2DArrayAssert,
                                                                  expectedSubArray, expectedSubArray.length, i),
                                info.representation().toStringOf(actual), info.representation().toStringOf(expected));
       }
+      // compare rows in bulk, elements are only compared one by one to report the first different one
+      if (Arrays.equals(actualSubArray, expectedSubArray)) continue;
       for (int j = 0; j < actualSubArray.length; j++) {
         if (actualSubArray[j] != expectedSubArray[j]) {
           throw failures.failure(info, elementShouldBeEqual(actualSubArray[j], expectedSubArray[j], i, j),
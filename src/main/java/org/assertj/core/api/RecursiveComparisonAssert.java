@@ -25,6 +25,7 @@ import java.util.OptionalLong;
 import java.util.function.BiPredicate;
 
 import org.assertj.core.api.recursive.comparison.ComparisonDifference;
+import org.assertj.core.api.recursive.comparison.ComparisonDifferences;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonConfiguration;
 import org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator;
 import org.assertj.core.internal.Failures;
@@ -157,12 +158,14 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
     // at this point expected is not null, which means actual must not be null for the assertion to pass
     objects.assertNotNull(info, actual);
     // at this point both actual and expected are not null, we can compare them recursively!
-    List<ComparisonDifference> differences = determineDifferencesWith(expected);
-    if (!differences.isEmpty()) throw objects.getFailures().failure(info, shouldBeEqualByComparingFieldByFieldRecursively(actual,
-                                                                                                                          expected,
-                                                                                                                          differences,
-                                                                                                                          recursiveComparisonConfiguration,
-                                                                                                                          info.representation()));
+    ComparisonDifferences differences = recursiveComparisonDifferenceCalculator.determineComparisonDifferences(actual, expected,
+                                                                                                             recursiveComparisonConfiguration);
+    if (!differences.getDifferences().isEmpty())
+      throw objects.getFailures().failure(info, shouldBeEqualByComparingFieldByFieldRecursively(actual, expected,
+                                                                                                differences.getDifferences(),
+                                                                                                differences.isTruncated(),
+                                                                                                recursiveComparisonConfiguration,
+                                                                                                info.representation()));
     return myself;
   }
 
@@ -262,7 +265,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringActualNullFields() {
-    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    modifiableConfiguration().setIgnoreAllActualNullFields(true);
     return myself;
   }
 
@@ -314,7 +317,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringActualEmptyOptionalFields() {
-    recursiveComparisonConfiguration.setIgnoreAllActualEmptyOptionalFields(true);
+    modifiableConfiguration().setIgnoreAllActualEmptyOptionalFields(true);
     return myself;
   }
 
@@ -359,7 +362,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringExpectedNullFields() {
-    recursiveComparisonConfiguration.setIgnoreAllExpectedNullFields(true);
+    modifiableConfiguration().setIgnoreAllExpectedNullFields(true);
     return myself;
   }
 
@@ -407,7 +410,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringFields(String... fieldNamesToIgnore) {
-    recursiveComparisonConfiguration.ignoreFields(fieldNamesToIgnore);
+    modifiableConfiguration().ignoreFields(fieldNamesToIgnore);
     return myself;
   }
 
@@ -456,7 +459,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringFieldsMatchingRegexes(String... regexes) {
-    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes(regexes);
+    modifiableConfiguration().ignoreFieldsMatchingRegexes(regexes);
     return myself;
   }
 
@@ -504,7 +507,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @return this {@link RecursiveComparisonAssert} to chain other methods.
    */
   public RecursiveComparisonAssert<?> ignoringFieldsOfTypes(Class<?>... typesToIgnore) {
-    recursiveComparisonConfiguration.ignoreFieldsOfTypes(typesToIgnore);
+    modifiableConfiguration().ignoreFieldsOfTypes(typesToIgnore);
     return myself;
   }
 
@@ -563,7 +566,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @return this {@link RecursiveComparisonAssert} to chain other methods.
    */
   public SELF ignoringAllOverriddenEquals() {
-    recursiveComparisonConfiguration.ignoreAllOverriddenEquals();
+    modifiableConfiguration().ignoreAllOverriddenEquals();
     return myself;
   }
 
@@ -620,7 +623,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    * @since 3.17.0
    */
   public SELF usingOverriddenEquals() {
-    recursiveComparisonConfiguration.useOverriddenEquals();
+    modifiableConfiguration().useOverriddenEquals();
     return myself;
   }
 
@@ -685,7 +688,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringOverriddenEqualsForFields(String... fields) {
-    recursiveComparisonConfiguration.ignoreOverriddenEqualsForFields(fields);
+    modifiableConfiguration().ignoreOverriddenEqualsForFields(fields);
     return myself;
   }
 
@@ -748,7 +751,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringOverriddenEqualsForTypes(Class<?>... types) {
-    recursiveComparisonConfiguration.ignoreOverriddenEqualsForTypes(types);
+    modifiableConfiguration().ignoreOverriddenEqualsForTypes(types);
     return myself;
   }
 
@@ -810,7 +813,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringOverriddenEqualsForFieldsMatchingRegexes(String... regexes) {
-    recursiveComparisonConfiguration.ignoreOverriddenEqualsForFieldsMatchingRegexes(regexes);
+    modifiableConfiguration().ignoreOverriddenEqualsForFieldsMatchingRegexes(regexes);
     return myself;
   }
 
@@ -844,7 +847,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringCollectionOrder() {
-    recursiveComparisonConfiguration.ignoreCollectionOrder(true);
+    modifiableConfiguration().ignoreCollectionOrder(true);
     return myself;
   }
 
@@ -885,7 +888,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
-    recursiveComparisonConfiguration.ignoreCollectionOrderInFields(fieldsToIgnoreCollectionOrder);
+    modifiableConfiguration().ignoreCollectionOrderInFields(fieldsToIgnoreCollectionOrder);
     return myself;
   }
 
@@ -929,7 +932,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF ignoringCollectionOrderInFieldsMatchingRegexes(String... regexes) {
-    recursiveComparisonConfiguration.ignoreCollectionOrderInFieldsMatchingRegexes(regexes);
+    modifiableConfiguration().ignoreCollectionOrderInFieldsMatchingRegexes(regexes);
     return myself;
   }
 
@@ -991,7 +994,65 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withStrictTypeChecking() {
-    recursiveComparisonConfiguration.strictTypeChecking(true);
+    modifiableConfiguration().strictTypeChecking(true);
+    return myself;
+  }
+
+  /**
+   * Makes the recursive comparison use the given number of threads to compare the independent parts of the compared objects,
+   * this is worth it for wide object graphs, for example objects holding thousands of entries in their maps or lists.
+   * <p>
+   * The reported differences are the same and in the same order as in a single threaded comparison, they don't depend on
+   * the threads scheduling: an object referenced by several branches of the comparison is compared by the branch coming
+   * first in a single threaded comparison and, when {@link #withMaxDifferences(int)} is used, the first differences in that
+   * order are reported.
+   * <p>
+   * The registered comparators and the compared objects getters are called from different threads, they must thus be thread safe.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Snapshot actual = loadSnapshot();
+   * Snapshot expected = expectedSnapshot();
+   *
+   * // compare the snapshot entries with 4 threads
+   * assertThat(actual).usingRecursiveComparison()
+   *                   .withParallelism(4)
+   *                   .isEqualTo(expected);</code></pre>
+   *
+   * @param parallelism the number of threads used by the recursive comparison, 1 (the default) means the comparison is
+   *          performed by the calling thread only.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if the given parallelism is less than 1.
+   */
+  @CheckReturnValue
+  public SELF withParallelism(int parallelism) {
+    modifiableConfiguration().setParallelism(parallelism);
+    return myself;
+  }
+
+  /**
+   * Makes the recursive comparison stop as soon as it has found the given number of differences, this is useful when
+   * the comparison is only meant to tell whether the objects are equal as it avoids comparing (and describing) the
+   * remaining fields.
+   * <p>
+   * The error message states that the comparison has stopped when the given number of differences is reached, other
+   * differences might then exist.
+   * <p>
+   * Example:
+   * <pre><code class='java'> Person sherlock = new Person("Sherlock", 1.80);
+   * Person moriarty = new Person("Moriarty", 1.75);
+   *
+   * // assertion fails reporting only one of the name and height differences
+   * assertThat(sherlock).usingRecursiveComparison()
+   *                     .withMaxDifferences(1)
+   *                     .isEqualTo(moriarty);</code></pre>
+   *
+   * @param maxDifferences the number of differences after which the recursive comparison stops.
+   * @return this {@link RecursiveComparisonAssert} to chain other methods.
+   * @throws IllegalArgumentException if the given number of differences is less than 1.
+   */
+  @CheckReturnValue
+  public SELF withMaxDifferences(int maxDifferences) {
+    modifiableConfiguration().setMaxDifferences(maxDifferences);
     return myself;
   }
 
@@ -1038,7 +1099,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withEqualsForFields(BiPredicate<?, ?> equals, String... fieldLocations) {
-    recursiveComparisonConfiguration.registerEqualsForFields(equals, fieldLocations);
+    modifiableConfiguration().registerEqualsForFields(equals, fieldLocations);
     return myself;
   }
 
@@ -1084,7 +1145,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public SELF withComparatorForFields(Comparator<?> comparator, String... fieldLocations) {
-    recursiveComparisonConfiguration.registerComparatorForFields(comparator, fieldLocations);
+    modifiableConfiguration().registerComparatorForFields(comparator, fieldLocations);
     return myself;
   }
 
@@ -1128,7 +1189,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public <T> SELF withComparatorForType(Comparator<? super T> comparator, Class<T> type) {
-    recursiveComparisonConfiguration.registerComparatorForType(comparator, type);
+    modifiableConfiguration().registerComparatorForType(comparator, type);
     return myself;
   }
 
@@ -1172,7 +1233,7 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
    */
   @CheckReturnValue
   public <T> SELF withEqualsForType(BiPredicate<? super T, ? super T> equals, Class<T> type) {
-    recursiveComparisonConfiguration.registerEqualsForType(equals, type);
+    modifiableConfiguration().registerEqualsForType(equals, type);
     return myself;
   }
 
@@ -1185,9 +1246,19 @@ public class RecursiveComparisonAssert<SELF extends RecursiveComparisonAssert<SE
 
   @SuppressWarnings({ "unchecked", "rawtypes" })
   private void registerComparatorForType(Entry<Class<?>, Comparator<?>> entry) {
+    // avoids copying a frozen configuration already using the given comparator, like the default double and float ones
+    if (recursiveComparisonConfiguration.getComparatorForType(entry.getKey()) == entry.getValue()) return;
     withComparatorForType((Comparator) entry.getValue(), entry.getKey());
   }
 
+  // a frozen configuration can be shared with other assertions, it is copied before being changed by this one
+  private RecursiveComparisonConfiguration modifiableConfiguration() {
+    if (recursiveComparisonConfiguration.isFrozen()) {
+      recursiveComparisonConfiguration = new RecursiveComparisonConfiguration(recursiveComparisonConfiguration);
+    }
+    return recursiveComparisonConfiguration;
+  }
+
   /**
    * Returns the {@link RecursiveComparisonConfiguration} currently used.
    *
@@ -0,0 +1,45 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.List;
+
+/**
+ * The differences reported by a recursive comparison and whether it has stopped before the end because there were more
+ * differences than the max number of differences to report.
+ */
+public final class ComparisonDifferences {
+
+  private final List<ComparisonDifference> differences;
+  private final boolean truncated;
+
+  ComparisonDifferences(List<ComparisonDifference> differences, boolean truncated) {
+    this.differences = differences;
+    this.truncated = truncated;
+  }
+
+  public List<ComparisonDifference> getDifferences() {
+    return differences;
+  }
+
+  /**
+   * Returns whether the comparison has found more differences than the max number of differences, only the first ones are
+   * reported.
+   *
+   * @return whether the comparison has stopped before the end.
+   */
+  public boolean isTruncated() {
+    return truncated;
+  }
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static java.util.Collections.unmodifiableSet;
+import static org.assertj.core.internal.Objects.getFieldsNames;
+import static org.assertj.core.util.introspection.Introspection.canIntrospectExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.findPublicPropertyGetter;
+import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.assertj.core.util.introspection.FieldSupport;
+
+/**
+ * The fields of a class compared by the recursive comparison and how to read them.
+ * <p>
+ * Field values are read like {@link org.assertj.core.util.introspection.PropertyOrFieldSupport#COMPARISON} does (property
+ * getter first then field) but the getter or field to use is resolved once per class and read with a {@link MethodHandle},
+ * the resolution is only done again if the global introspection settings have changed in between.
+ * <p>
+ * Plans are cached in a {@link ClassValue} which does not prevent the classes (and their class loaders) from being garbage
+ * collected.
+ */
+final class ComparisonPlan {
+
+  private static final MethodType READER_TYPE = methodType(Object.class, Object.class);
+  private static final ClassValue<ComparisonPlan> COMPARISON_PLANS = new ClassValue<ComparisonPlan>() {
+    @Override
+    protected ComparisonPlan computeValue(Class<?> type) {
+      return new ComparisonPlan(type);
+    }
+  };
+
+  private final Class<?> type;
+  private final Set<String> fieldNames;
+  private final Map<String, FieldReader> fieldReaders = new ConcurrentHashMap<>();
+
+  private ComparisonPlan(Class<?> type) {
+    this.type = type;
+    this.fieldNames = unmodifiableSet(getFieldsNames(type));
+  }
+
+  static ComparisonPlan comparisonPlanOf(Class<?> type) {
+    return COMPARISON_PLANS.get(type);
+  }
+
+  /**
+   * Reads the value of the given field (or property) in the given object.
+   *
+   * @param fieldName the field name
+   * @param object the object to read the field value from, must not be null.
+   * @return the field value
+   * @throws org.assertj.core.util.introspection.IntrospectionError if the field can't be read.
+   */
+  static Object readFieldValue(String fieldName, Object object) {
+    return comparisonPlanOf(object.getClass()).fieldReader(fieldName).read(fieldName, object);
+  }
+
+  Set<String> getFieldNames() {
+    return fieldNames;
+  }
+
+  private FieldReader fieldReader(String fieldName) {
+    FieldReader fieldReader = fieldReaders.computeIfAbsent(fieldName, this::resolveFieldReader);
+    if (fieldReader.isUpToDate()) return fieldReader;
+    // global introspection settings have changed since the field reader was resolved
+    fieldReader = resolveFieldReader(fieldName);
+    fieldReaders.put(fieldName, fieldReader);
+    return fieldReader;
+  }
+
+  private FieldReader resolveFieldReader(String fieldName) {
+    return new FieldReader(getterHandle(fieldName), fieldHandle(fieldName));
+  }
+
+  private MethodHandle getterHandle(String propertyName) {
+    Method getter = findPublicPropertyGetter(propertyName, type);
+    return getter == null ? null : unreflect(getter);
+  }
+
+  private MethodHandle fieldHandle(String fieldName) {
+    Field field = findField(fieldName);
+    if (field == null || isStatic(field.getModifiers())) return null;
+    if (!FieldSupport.comparison().isAllowedToRead(field)) return null;
+    return unreflect(field);
+  }
+
+  // same lookup order as FieldUtils.getField without the exceptions thrown for each class not declaring the field
+  private Field findField(String fieldName) {
+    for (Class<?> clazz = type; clazz != null; clazz = clazz.getSuperclass()) {
+      for (Field field : clazz.getDeclaredFields()) {
+        if (field.getName().equals(fieldName)) return field;
+      }
+    }
+    return null;
+  }
+
+  private static MethodHandle unreflect(AccessibleObject member) {
+    try {
+      // force access for private members or public members of non public classes
+      member.setAccessible(true);
+      MethodHandle handle = member instanceof Method
+          ? MethodHandles.lookup().unreflect((Method) member)
+          : MethodHandles.lookup().unreflectGetter((Field) member);
+      return handle.asType(READER_TYPE);
+    } catch (RuntimeException | IllegalAccessException e) {
+      // can't access the member (ex: module restrictions), let PropertyOrFieldSupport report the error
+      return null;
+    }
+  }
+
+  private static final class FieldReader {
+
+    private final MethodHandle getter;
+    private final MethodHandle field;
+    // global introspection settings used to resolve the getter and the field
+    private final boolean bareNamePropertyMethods;
+    private final boolean allowUsingPrivateFields;
+
+    private FieldReader(MethodHandle getter, MethodHandle field) {
+      this.getter = getter;
+      this.field = field;
+      this.bareNamePropertyMethods = canIntrospectExtractBareNamePropertyMethods();
+      this.allowUsingPrivateFields = FieldSupport.comparison().isAllowedToUsePrivateFields();
+    }
+
+    private boolean isUpToDate() {
+      return bareNamePropertyMethods == canIntrospectExtractBareNamePropertyMethods()
+             && allowUsingPrivateFields == FieldSupport.comparison().isAllowedToUsePrivateFields();
+    }
+
+    private Object read(String fieldName, Object object) {
+      if (getter != null) {
+        try {
+          return (Object) getter.invokeExact(object);
+        } catch (Error error) {
+          // errors are not getter failures, don't swallow them nor read the value again
+          throw error;
+        } catch (Throwable getterException) {
+          // like PropertyOrFieldSupport, try the field when the getter fails
+        }
+      }
+      if (field != null) {
+        try {
+          return (Object) field.invokeExact(object);
+        } catch (Error error) {
+          throw error;
+        } catch (Throwable unexpected) {
+          // let PropertyOrFieldSupport report the error
+        }
+      }
+      // PropertyOrFieldSupport reports the error or reads the value as a map key
+      return COMPARISON.getSimpleValue(fieldName, object);
+    }
+
+  }
+
+}
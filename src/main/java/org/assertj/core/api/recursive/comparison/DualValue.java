@@ -23,7 +23,6 @@ import java.nio.file.Path;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.OptionalDouble;
 import java.util.OptionalInt;
@@ -54,7 +53,9 @@ public final class DualValue {
     this.fieldLocation = requireNonNull(fieldLocation, "fieldLocation must not be null");
     actual = actualFieldValue;
     expected = expectedFieldValue;
-    hashCode = Objects.hash(actual, expected);
+    // consistent with equals which compares actual and expected by reference, this also avoids calling potentially
+    // expensive hashCode implementations of the compared values (ex: deep collections)
+    hashCode = 31 * System.identityHashCode(actual) + System.identityHashCode(expected);
   }
 
   @Override
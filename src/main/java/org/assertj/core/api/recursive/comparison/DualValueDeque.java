@@ -15,7 +15,10 @@ package org.assertj.core.api.recursive.comparison;
 import static java.util.stream.Collectors.toList;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedList;
+import java.util.Map;
 
 // special deque that can ignore DualKey according to RecursiveComparisonConfiguration.
 @SuppressWarnings("serial")
@@ -55,6 +58,23 @@ class DualValueDeque extends LinkedList<DualValue> {
     super.addLast(dualKey);
   }
 
+  // removes the first occurrence of this deque's dual values once for each time they were visited, this is done in a
+  // single pass by counting the removed dual values instead of looking up each visited dual value in this deque.
+  void removeVisitedDualValues(VisitedDualValues visitedDualValues) {
+    Map<DualValue, Integer> removedCounts = new HashMap<>();
+    Iterator<DualValue> iterator = iterator();
+    while (iterator.hasNext()) {
+      DualValue dualValue = iterator.next();
+      int visitCount = visitedDualValues.visitCount(dualValue);
+      if (visitCount == 0) continue;
+      int removedCount = removedCounts.getOrDefault(dualValue, 0);
+      if (removedCount < visitCount) {
+        iterator.remove();
+        removedCounts.put(dualValue, removedCount + 1);
+      }
+    }
+  }
+
   private boolean shouldIgnore(DualValue dualKey) {
     return recursiveComparisonConfiguration.shouldIgnore(dualKey);
   }
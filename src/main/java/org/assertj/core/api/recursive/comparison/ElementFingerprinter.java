@@ -0,0 +1,127 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.comparisonPlanOf;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.readFieldValue;
+import static org.assertj.core.api.recursive.comparison.RecursiveComparisonDifferenceCalculator.hasOverriddenEquals;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Computes a cheap structural fingerprint of unordered iterable elements built from their non ignored leaf fields
+ * (strings, primitive wrappers and enums), the fingerprint guarantees that elements considered equal by the recursive
+ * comparison have the same fingerprint, it is thus only needed to compare recursively elements with the same fingerprint.
+ * <p>
+ * Fingerprints can't always be computed, for example when elements have custom comparators, in that case the recursive
+ * comparison must compare each actual element to all expected elements.
+ */
+class ElementFingerprinter {
+
+  private static final int NULL_FINGERPRINT = 0;
+  private static final Set<Class<?>> LEAF_TYPES = newLinkedHashSet(String.class, Boolean.class, Character.class, Byte.class,
+                                                                   Short.class, Integer.class, Long.class, Float.class,
+                                                                   Double.class);
+
+  private final FieldLocation elementsLocation;
+  private final RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+  // leaf elements and elements compared field by field can't be mixed as we could not guarantee that equal elements have
+  // the same fingerprint, for the same reason, elements compared field by field must all be of the same type.
+  private boolean hasLeafElements;
+  private Class<?> fieldByFieldComparedElementsType;
+
+  ElementFingerprinter(FieldLocation elementsLocation, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    this.elementsLocation = elementsLocation;
+    this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+  }
+
+  /**
+   * Returns the fingerprints of the given actual and expected elements, actual ones first followed by the expected ones, or
+   * an empty Optional if they can't all be computed.
+   *
+   * @param actual the actual elements
+   * @param expected the expected elements
+   * @return the fingerprints or an empty Optional if they can't all be computed.
+   */
+  Optional<List<Integer>> fingerprintsOf(Iterable<?> actual, Iterable<?> expected) {
+    // ignoring fields based on their values is evaluated on actual/expected pairs which we don't know yet
+    if (recursiveComparisonConfiguration.ignoresFieldsBasedOnTheirValue()) return Optional.empty();
+    // elements are located at the iterable location, any field comparator registered for it applies to them
+    if (recursiveComparisonConfiguration.hasComparatorForField(elementsLocation.getPathToUseInRules())) return Optional.empty();
+    List<Integer> fingerprints = new ArrayList<>();
+    for (Object element : actual) {
+      Integer fingerprint = fingerprintOf(element);
+      if (fingerprint == null) return Optional.empty();
+      fingerprints.add(fingerprint);
+    }
+    for (Object element : expected) {
+      Integer fingerprint = fingerprintOf(element);
+      if (fingerprint == null) return Optional.empty();
+      fingerprints.add(fingerprint);
+    }
+    if (hasLeafElements && fieldByFieldComparedElementsType != null) return Optional.empty();
+    return Optional.of(fingerprints);
+  }
+
+  private Integer fingerprintOf(Object element) {
+    if (element == null) return NULL_FINGERPRINT;
+    // a custom comparator could consider equal elements with different fingerprints
+    if (recursiveComparisonConfiguration.hasComparatorForType(element.getClass())) return null;
+    Integer leafFingerprint = leafFingerprintOf(element);
+    if (leafFingerprint != null) {
+      hasLeafElements = true;
+      return leafFingerprint;
+    }
+    DualValue elementDualValue = new DualValue(elementsLocation, element, element);
+    // elements compared with their equals method might be equal with different fingerprints
+    if (!elementDualValue.hasNoContainerValues() || shouldHonorOverriddenEquals(elementDualValue)) return null;
+    // elements are going to be compared field by field
+    if (fieldByFieldComparedElementsType == null) fieldByFieldComparedElementsType = element.getClass();
+    else if (fieldByFieldComparedElementsType != element.getClass()) return null;
+    return fieldsFingerprintOf(element);
+  }
+
+  private int fieldsFingerprintOf(Object element) {
+    int fingerprint = NULL_FINGERPRINT;
+    for (String fieldName : comparisonPlanOf(element.getClass()).getFieldNames()) {
+      FieldLocation fieldLocation = elementsLocation.field(fieldName);
+      if (recursiveComparisonConfiguration.shouldIgnoreFieldBasedOnFieldLocation(fieldLocation)) continue;
+      if (recursiveComparisonConfiguration.hasComparatorForField(fieldLocation.getPathToUseInRules())) continue;
+      Object fieldValue = readFieldValue(fieldName, element);
+      // null field values are not taken into account since they could be compared with custom comparators
+      if (fieldValue == null || recursiveComparisonConfiguration.hasComparatorForType(fieldValue.getClass())) continue;
+      Integer fieldFingerprint = leafFingerprintOf(fieldValue);
+      // fields order is not guaranteed, fingerprints are combined with + which does not depend on it
+      if (fieldFingerprint != null) fingerprint += 31 * fieldName.hashCode() + fieldFingerprint;
+    }
+    return fingerprint;
+  }
+
+  private boolean shouldHonorOverriddenEquals(DualValue dualValue) {
+    return !recursiveComparisonConfiguration.shouldIgnoreOverriddenEqualsOf(dualValue)
+           && hasOverriddenEquals(dualValue.actual.getClass());
+  }
+
+  private static Integer leafFingerprintOf(Object value) {
+    // enums are compared by name unless in strict type checking mode where they are compared by reference
+    if (value.getClass().isEnum()) return ((Enum<?>) value).name().hashCode();
+    // leaf types are compared with equals
+    if (LEAF_TYPES.contains(value.getClass())) return value.hashCode();
+    return null;
+  }
+
+}
@@ -14,28 +14,33 @@ package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
 import static java.util.Arrays.stream;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.comparisonPlanOf;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.readFieldValue;
 import static org.assertj.core.configuration.ConfigurationProvider.CONFIGURATION_PROVIDER;
 import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
+import static org.assertj.core.util.Preconditions.checkArgument;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.assertj.core.util.Strings.join;
-import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
 import org.assertj.core.api.RecursiveComparisonAssert;
-import org.assertj.core.internal.Objects;
 import org.assertj.core.internal.TypeComparators;
 import org.assertj.core.presentation.Representation;
 import org.assertj.core.util.VisibleForTesting;
@@ -44,6 +49,10 @@ public class RecursiveComparisonConfiguration {
 
   public static final String INDENT_LEVEL_2 = "  -";
   private boolean strictTypeChecking = false;
+  // 1 means the comparison is performed by the calling thread only
+  private int parallelism = 1;
+  // the comparison stops once this number of differences has been found
+  private int maxDifferences = Integer.MAX_VALUE;
 
   // fields to ignore section
   private boolean ignoreAllActualNullFields = false;
@@ -68,8 +77,18 @@ public class RecursiveComparisonConfiguration {
   private TypeComparators typeComparators = defaultTypeComparators();
   private FieldComparators fieldComparators = new FieldComparators();
 
+  // rules depending only on the field location or the type are evaluated once and cached, field locations are cached by their
+  // path to use in rules so that elements of the same collection share their cached rules, caches are cleared when rules change.
+  private final Map<String, FieldLocationRules> fieldLocationRulesCache = new ConcurrentHashMap<>();
+  private final Map<Class<?>, Boolean> ignoredOverriddenEqualsByTypeCache = new ConcurrentHashMap<>();
+
+  // a frozen configuration can't be changed anymore and can thus be shared by different assertions and threads
+  private boolean frozen = false;
+
   private RecursiveComparisonConfiguration(Builder builder) {
     this.strictTypeChecking = builder.strictTypeChecking;
+    setParallelism(builder.parallelism);
+    setMaxDifferences(builder.maxDifferences);
     this.ignoreAllActualNullFields = builder.ignoreAllActualNullFields;
     this.ignoreAllActualEmptyOptionalFields = builder.ignoreAllActualEmptyOptionalFields;
     this.ignoreAllExpectedNullFields = builder.ignoreAllExpectedNullFields;
@@ -89,6 +108,95 @@ public class RecursiveComparisonConfiguration {
 
   public RecursiveComparisonConfiguration() {}
 
+  /**
+   * Creates a modifiable copy of the given configuration, changing the copy does not change the given configuration.
+   * <p>
+   * This is typically used to tweak a configuration obtained with {@link #freeze()}.
+   *
+   * @param configuration the configuration to copy.
+   */
+  public RecursiveComparisonConfiguration(RecursiveComparisonConfiguration configuration) {
+    this.strictTypeChecking = configuration.strictTypeChecking;
+    this.parallelism = configuration.parallelism;
+    this.maxDifferences = configuration.maxDifferences;
+    this.ignoreAllActualNullFields = configuration.ignoreAllActualNullFields;
+    this.ignoreAllActualEmptyOptionalFields = configuration.ignoreAllActualEmptyOptionalFields;
+    this.ignoreAllExpectedNullFields = configuration.ignoreAllExpectedNullFields;
+    this.ignoredFields = new LinkedHashSet<>(configuration.ignoredFields);
+    this.ignoredFieldsRegexes = new ArrayList<>(configuration.ignoredFieldsRegexes);
+    this.ignoredTypes = new LinkedHashSet<>(configuration.ignoredTypes);
+    this.ignoredOverriddenEqualsForTypes = new ArrayList<>(configuration.ignoredOverriddenEqualsForTypes);
+    this.ignoredOverriddenEqualsForFields = new ArrayList<>(configuration.ignoredOverriddenEqualsForFields);
+    this.ignoredOverriddenEqualsForFieldsMatchingRegexes = new ArrayList<>(configuration.ignoredOverriddenEqualsForFieldsMatchingRegexes);
+    this.ignoreAllOverriddenEquals = configuration.ignoreAllOverriddenEquals;
+    this.ignoreCollectionOrder = configuration.ignoreCollectionOrder;
+    this.ignoredCollectionOrderInFields = new LinkedHashSet<>(configuration.ignoredCollectionOrderInFields);
+    this.ignoredCollectionOrderInFieldsMatchingRegexes = new ArrayList<>(configuration.ignoredCollectionOrderInFieldsMatchingRegexes);
+    this.typeComparators = copyOf(configuration.typeComparators);
+    this.fieldComparators = copyOf(configuration.fieldComparators);
+  }
+
+  /**
+   * Returns an immutable copy of this configuration, any attempt to change it fails with an {@link UnsupportedOperationException}.
+   * <p>
+   * A frozen configuration remembers the rules it has evaluated for the compared fields and types (ignored fields, registered
+   * comparators, ...), it can be shared by different assertions and threads, typically as a {@code static final} field, so that
+   * these rules are only evaluated once:
+   * <pre><code class='java'> static final RecursiveComparisonConfiguration CONFIGURATION = RecursiveComparisonConfiguration.builder()
+   *                                                                                          .withIgnoredFields("id")
+   *                                                                                          .build()
+   *                                                                                          .freeze();
+   *
+   * assertThat(actual).usingRecursiveComparison(CONFIGURATION)
+   *                   .isEqualTo(expected);</code></pre>
+   * Assertions tweaking a frozen configuration (for example with {@link RecursiveComparisonAssert#ignoringFields(String...)})
+   * work on a copy of it, leaving the frozen configuration unchanged.
+   * <p>
+   * Use {@link #RecursiveComparisonConfiguration(RecursiveComparisonConfiguration)} to get a modifiable copy of a frozen configuration.
+   *
+   * @return an immutable copy of this configuration.
+   */
+  public RecursiveComparisonConfiguration freeze() {
+    RecursiveComparisonConfiguration frozenConfiguration = new RecursiveComparisonConfiguration(this);
+    frozenConfiguration.ignoredFields = unmodifiableSet(frozenConfiguration.ignoredFields);
+    frozenConfiguration.ignoredFieldsRegexes = unmodifiableList(frozenConfiguration.ignoredFieldsRegexes);
+    frozenConfiguration.ignoredTypes = unmodifiableSet(frozenConfiguration.ignoredTypes);
+    frozenConfiguration.ignoredOverriddenEqualsForTypes = unmodifiableList(frozenConfiguration.ignoredOverriddenEqualsForTypes);
+    frozenConfiguration.ignoredOverriddenEqualsForFields = unmodifiableList(frozenConfiguration.ignoredOverriddenEqualsForFields);
+    frozenConfiguration.ignoredOverriddenEqualsForFieldsMatchingRegexes = unmodifiableList(frozenConfiguration.ignoredOverriddenEqualsForFieldsMatchingRegexes);
+    frozenConfiguration.ignoredCollectionOrderInFields = unmodifiableSet(frozenConfiguration.ignoredCollectionOrderInFields);
+    frozenConfiguration.ignoredCollectionOrderInFieldsMatchingRegexes = unmodifiableList(frozenConfiguration.ignoredCollectionOrderInFieldsMatchingRegexes);
+    frozenConfiguration.frozen = true;
+    return frozenConfiguration;
+  }
+
+  /**
+   * Returns whether this configuration has been obtained with {@link #freeze()} and thus can't be changed.
+   *
+   * @return whether this configuration can't be changed.
+   */
+  public boolean isFrozen() {
+    return frozen;
+  }
+
+  private void checkNotFrozen() {
+    if (frozen) throw new UnsupportedOperationException("A frozen recursive comparison configuration can't be changed, "
+                                                        + "use new RecursiveComparisonConfiguration(frozenConfiguration) to get a modifiable copy");
+  }
+
+  @SuppressWarnings({ "unchecked", "rawtypes" })
+  private static TypeComparators copyOf(TypeComparators typeComparators) {
+    TypeComparators copy = new TypeComparators();
+    typeComparators.comparatorByTypes().forEach(entry -> copy.put((Class) entry.getKey(), (Comparator) entry.getValue()));
+    return copy;
+  }
+
+  private static FieldComparators copyOf(FieldComparators fieldComparators) {
+    FieldComparators copy = new FieldComparators();
+    fieldComparators.comparatorByFields().forEach(entry -> copy.registerComparator(entry.getKey(), entry.getValue()));
+    return copy;
+  }
+
   public boolean hasComparatorForField(String fieldName) {
     return fieldComparators.hasComparatorForField(fieldName);
   }
@@ -98,11 +206,12 @@ public class RecursiveComparisonConfiguration {
   }
 
   public FieldComparators getFieldComparators() {
-    return fieldComparators;
+    // frozen configurations comparators can't be changed
+    return frozen ? copyOf(fieldComparators) : fieldComparators;
   }
 
   public boolean hasComparatorForType(Class<?> keyType) {
-    return typeComparators.hasComparatorForType(keyType);
+    return getComparatorForType(keyType) != null;
   }
 
   public boolean hasCustomComparators() {
@@ -114,7 +223,8 @@ public class RecursiveComparisonConfiguration {
   }
 
   public TypeComparators getTypeComparators() {
-    return typeComparators;
+    // frozen configurations comparators can't be changed
+    return frozen ? copyOf(typeComparators) : typeComparators;
   }
 
   Stream<Entry<Class<?>, Comparator<?>>> comparatorByTypes() {
@@ -144,6 +254,7 @@ public class RecursiveComparisonConfiguration {
    * @param ignoringAllActualEmptyOptionalFields whether to ignore actual empty optional fields in the recursive comparison
    */
   public void setIgnoreAllActualEmptyOptionalFields(boolean ignoringAllActualEmptyOptionalFields) {
+    checkNotFrozen();
     this.ignoreAllActualEmptyOptionalFields = ignoringAllActualEmptyOptionalFields;
   }
 
@@ -160,6 +271,7 @@ public class RecursiveComparisonConfiguration {
    * @param ignoreAllActualNullFields whether to ignore actual null fields in the recursive comparison
    */
   public void setIgnoreAllActualNullFields(boolean ignoreAllActualNullFields) {
+    checkNotFrozen();
     this.ignoreAllActualNullFields = ignoreAllActualNullFields;
   }
 
@@ -171,6 +283,7 @@ public class RecursiveComparisonConfiguration {
    * @param ignoreAllExpectedNullFields whether to ignore expected null fields in the recursive comparison
    */
   public void setIgnoreAllExpectedNullFields(boolean ignoreAllExpectedNullFields) {
+    checkNotFrozen();
     this.ignoreAllExpectedNullFields = ignoreAllExpectedNullFields;
   }
 
@@ -184,8 +297,10 @@ public class RecursiveComparisonConfiguration {
    * @param fieldsToIgnore the fields of the object under test to ignore in the comparison.
    */
   public void ignoreFields(String... fieldsToIgnore) {
+    checkNotFrozen();
     List<String> fieldLocations = list(fieldsToIgnore);
     ignoredFields.addAll(fieldLocations);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -196,9 +311,11 @@ public class RecursiveComparisonConfiguration {
    * @param regexes regexes used to ignore fields in the comparison.
    */
   public void ignoreFieldsMatchingRegexes(String... regexes) {
+    checkNotFrozen();
     ignoredFieldsRegexes.addAll(Stream.of(regexes)
                                       .map(Pattern::compile)
                                       .collect(toList()));
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -212,6 +329,7 @@ public class RecursiveComparisonConfiguration {
    * @param types the types of the object under test to ignore in the comparison.
    */
   public void ignoreFieldsOfTypes(Class<?>... types) {
+    checkNotFrozen();
     stream(types).map(RecursiveComparisonConfiguration::asWrapperIfPrimitiveType).forEach(ignoredTypes::add);
   }
 
@@ -252,6 +370,7 @@ public class RecursiveComparisonConfiguration {
    * See {@link RecursiveComparisonAssert#ignoringAllOverriddenEquals()} for examples.
    */
   public void ignoreAllOverriddenEquals() {
+    checkNotFrozen();
     ignoreAllOverriddenEquals = true;
   }
 
@@ -261,6 +380,7 @@ public class RecursiveComparisonConfiguration {
    * See {@link RecursiveComparisonAssert#usingOverriddenEquals()} for examples.
    */
   public void useOverriddenEquals() {
+    checkNotFrozen();
     ignoreAllOverriddenEquals = false;
   }
 
@@ -272,8 +392,10 @@ public class RecursiveComparisonConfiguration {
    * @param fields the fields to force a recursive comparison on.
    */
   public void ignoreOverriddenEqualsForFields(String... fields) {
+    checkNotFrozen();
     List<String> fieldLocations = list(fields);
     ignoredOverriddenEqualsForFields.addAll(fieldLocations);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -284,9 +406,11 @@ public class RecursiveComparisonConfiguration {
    * @param regexes regexes used to specify the fields we want to force a recursive comparison on.
    */
   public void ignoreOverriddenEqualsForFieldsMatchingRegexes(String... regexes) {
+    checkNotFrozen();
     ignoredOverriddenEqualsForFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                  .map(Pattern::compile)
                                                                  .collect(toList()));
+    ignoredOverriddenEqualsByTypeCache.clear();
   }
 
   /**
@@ -297,7 +421,9 @@ public class RecursiveComparisonConfiguration {
    * @param types the types to the list of types to force a recursive comparison on.
    */
   public void ignoreOverriddenEqualsForTypes(Class<?>... types) {
+    checkNotFrozen();
     ignoredOverriddenEqualsForTypes.addAll(list(types));
+    ignoredOverriddenEqualsByTypeCache.clear();
   }
 
   @VisibleForTesting
@@ -313,6 +439,7 @@ public class RecursiveComparisonConfiguration {
    * @param ignoreCollectionOrder whether to ignore collection order in the comparison.
    */
   public void ignoreCollectionOrder(boolean ignoreCollectionOrder) {
+    checkNotFrozen();
     this.ignoreCollectionOrder = ignoreCollectionOrder;
   }
 
@@ -324,8 +451,10 @@ public class RecursiveComparisonConfiguration {
    * @param fieldsToIgnoreCollectionOrder the fields of the object under test to ignore collection order in the comparison.
    */
   public void ignoreCollectionOrderInFields(String... fieldsToIgnoreCollectionOrder) {
+    checkNotFrozen();
     List<String> fieldLocations = list(fieldsToIgnoreCollectionOrder);
     ignoredCollectionOrderInFields.addAll(fieldLocations);
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -345,9 +474,11 @@ public class RecursiveComparisonConfiguration {
    * @param regexes regexes used to find the object under test fields to ignore collection order in in the comparison.
    */
   public void ignoreCollectionOrderInFieldsMatchingRegexes(String... regexes) {
+    checkNotFrozen();
     ignoredCollectionOrderInFieldsMatchingRegexes.addAll(Stream.of(regexes)
                                                                .map(Pattern::compile)
                                                                .collect(toList()));
+    fieldLocationRulesCache.clear();
   }
 
   /**
@@ -374,6 +505,7 @@ public class RecursiveComparisonConfiguration {
    * @throws NullPointerException if the given comparator is null.
    */
   public <T> void registerComparatorForType(Comparator<? super T> comparator, Class<T> type) {
+    checkNotFrozen();
     requireNonNull(comparator, "Expecting a non null Comparator");
     typeComparators.put(type, comparator);
   }
@@ -417,6 +549,7 @@ public class RecursiveComparisonConfiguration {
    * @throws NullPointerException if the given comparator is null.
    */
   public void registerComparatorForFields(Comparator<?> comparator, String... fieldLocations) {
+    checkNotFrozen();
     requireNonNull(comparator, "Expecting a non null Comparator");
     Stream.of(fieldLocations).forEach(fieldLocation -> fieldComparators.registerComparator(fieldLocation, comparator));
   }
@@ -453,6 +586,7 @@ public class RecursiveComparisonConfiguration {
    * @param strictTypeChecking whether the recursive comparison will check that actual's type is compatible with expected's type.
    */
   public void strictTypeChecking(boolean strictTypeChecking) {
+    checkNotFrozen();
     this.strictTypeChecking = strictTypeChecking;
   }
 
@@ -460,6 +594,47 @@ public class RecursiveComparisonConfiguration {
     return strictTypeChecking;
   }
 
+  /**
+   * Sets the number of threads used to compare the independent parts of the compared objects, 1 (the default) means the
+   * comparison is performed by the calling thread only.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withParallelism(int)} for more details.
+   *
+   * @param parallelism the number of threads used by the recursive comparison.
+   * @throws IllegalArgumentException if the given parallelism is less than 1.
+   */
+  public void setParallelism(int parallelism) {
+    checkNotFrozen();
+    checkArgument(parallelism >= 1, "The parallelism must be greater or equal to 1 but was %s", parallelism);
+    this.parallelism = parallelism;
+  }
+
+  public int getParallelism() {
+    return parallelism;
+  }
+
+  /**
+   * Sets the number of differences after which the recursive comparison stops, by default all differences are reported.
+   * <p>
+   * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for more details.
+   *
+   * @param maxDifferences the number of differences after which the recursive comparison stops.
+   * @throws IllegalArgumentException if the given number of differences is less than 1.
+   */
+  public void setMaxDifferences(int maxDifferences) {
+    checkNotFrozen();
+    checkArgument(maxDifferences >= 1, "The max number of differences must be greater or equal to 1 but was %s", maxDifferences);
+    this.maxDifferences = maxDifferences;
+  }
+
+  public int getMaxDifferences() {
+    return maxDifferences;
+  }
+
+  boolean hasMaxDifferences() {
+    return maxDifferences != Integer.MAX_VALUE;
+  }
+
   public List<Pattern> getIgnoredFieldsRegexes() {
     return ignoredFieldsRegexes;
   }
@@ -492,7 +667,7 @@ public class RecursiveComparisonConfiguration {
                                   ignoredCollectionOrderInFields, ignoredCollectionOrderInFieldsMatchingRegexes, ignoredFields,
                                   ignoredFieldsRegexes, ignoredOverriddenEqualsForFields, ignoredOverriddenEqualsForTypes,
                                   ignoredOverriddenEqualsForFieldsMatchingRegexes, ignoredTypes, strictTypeChecking,
-                                  typeComparators);
+                                  typeComparators, parallelism, maxDifferences);
   }
 
   @Override
@@ -515,6 +690,7 @@ public class RecursiveComparisonConfiguration {
            && java.util.Objects.equals(ignoredOverriddenEqualsForFieldsMatchingRegexes,
                                        other.ignoredOverriddenEqualsForFieldsMatchingRegexes)
            && java.util.Objects.equals(ignoredTypes, other.ignoredTypes) && strictTypeChecking == other.strictTypeChecking
+           && parallelism == other.parallelism && maxDifferences == other.maxDifferences
            && java.util.Objects.equals(typeComparators, other.typeComparators)
            && java.util.Objects.equals(ignoredCollectionOrderInFieldsMatchingRegexes,
                                        other.ignoredCollectionOrderInFieldsMatchingRegexes);
@@ -535,18 +711,17 @@ public class RecursiveComparisonConfiguration {
     describeRegisteredComparatorByTypes(description);
     describeRegisteredComparatorForFields(description);
     describeTypeCheckingStrictness(description);
+    describeParallelism(description);
+    describeMaxDifferences(description);
     return description.toString();
   }
 
   boolean shouldIgnore(DualValue dualValue) {
-    FieldLocation fieldLocation = dualValue.fieldLocation;
-    return matchesAnIgnoredField(fieldLocation)
-           || matchesAnIgnoredFieldRegex(fieldLocation)
-           || shouldIgnoreFieldBasedOnFieldValue(dualValue);
+    return shouldIgnoreFieldBasedOnFieldLocation(dualValue.fieldLocation) || shouldIgnoreFieldBasedOnFieldValue(dualValue);
   }
 
   Set<String> getNonIgnoredActualFieldNames(DualValue dualValue) {
-    Set<String> actualFieldsNames = Objects.getFieldsNames(dualValue.actual.getClass());
+    Set<String> actualFieldsNames = comparisonPlanOf(dualValue.actual.getClass()).getFieldNames();
     // we are doing the same as shouldIgnore(DualValue dualValue) but in two steps for performance reasons:
     // - we filter first ignored field by names that don't need building DualValues
     // - then we filter field DualValues with the remaining criteria that need to get the field value
@@ -563,6 +738,17 @@ public class RecursiveComparisonConfiguration {
                             .collect(toSet());
   }
 
+  boolean ignoresFieldsBasedOnTheirValue() {
+    return ignoreAllActualNullFields
+           || ignoreAllExpectedNullFields
+           || ignoreAllActualEmptyOptionalFields
+           || !ignoredTypes.isEmpty();
+  }
+
+  boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
+    return fieldLocationRules(fieldLocation).ignored;
+  }
+
   // non accessible stuff
 
   private boolean shouldIgnoreFieldBasedOnFieldValue(DualValue dualValue) {
@@ -571,16 +757,12 @@ public class RecursiveComparisonConfiguration {
            || matchesAnIgnoredEmptyOptionalField(dualValue);
   }
 
-  private boolean shouldIgnoreFieldBasedOnFieldLocation(FieldLocation fieldLocation) {
-    return matchesAnIgnoredField(fieldLocation) || matchesAnIgnoredFieldRegex(fieldLocation);
-  }
-
   private static DualValue dualValueForField(DualValue parentDualValue, String fieldName) {
-    Object actualFieldValue = COMPARISON.getSimpleValue(fieldName, parentDualValue.actual);
+    Object actualFieldValue = readFieldValue(fieldName, parentDualValue.actual);
     // no guarantees we have a field in expected named as fieldName
     Object expectedFieldValue;
     try {
-      expectedFieldValue = COMPARISON.getSimpleValue(fieldName, parentDualValue.expected);
+      expectedFieldValue = readFieldValue(fieldName, parentDualValue.expected);
     } catch (@SuppressWarnings("unused") Exception e) {
       // set the field to null to express it is absent, this not 100% accurate as the value could be null
       // but it works to evaluate if dualValue should be ignored with matchesAnIgnoredFieldType
@@ -605,19 +787,34 @@ public class RecursiveComparisonConfiguration {
     // enums don't have fields, comparing them field by field has no sense, we need to use equals which is overridden and final
     if (dualValue.isActualAnEnum()) return false;
     return ignoreAllOverriddenEquals
-           || matchesAnIgnoredOverriddenEqualsField(dualValue.fieldLocation)
+           || fieldLocationRules(dualValue.fieldLocation).overriddenEqualsIgnored
            || (dualValue.actual != null && shouldIgnoreOverriddenEqualsOf(dualValue.actual.getClass()));
   }
 
   @VisibleForTesting
   boolean shouldIgnoreOverriddenEqualsOf(Class<? extends Object> clazz) {
-    return matchesAnIgnoredOverriddenEqualsRegex(clazz) || matchesAnIgnoredOverriddenEqualsType(clazz);
+    return ignoredOverriddenEqualsByTypeCache.computeIfAbsent(clazz, type -> matchesAnIgnoredOverriddenEqualsRegex(type)
+                                                                             || matchesAnIgnoredOverriddenEqualsType(type));
   }
 
   boolean shouldIgnoreCollectionOrder(FieldLocation fieldLocation) {
-    return ignoreCollectionOrder
-           || matchesAnIgnoredCollectionOrderInField(fieldLocation)
-           || matchesAnIgnoredCollectionOrderInFieldRegex(fieldLocation);
+    return ignoreCollectionOrder || fieldLocationRules(fieldLocation).collectionOrderIgnored;
+  }
+
+  private FieldLocationRules fieldLocationRules(FieldLocation fieldLocation) {
+    return fieldLocationRulesCache.computeIfAbsent(fieldLocation.getPathToUseInRules(), this::evaluateFieldLocationRules);
+  }
+
+  private FieldLocationRules evaluateFieldLocationRules(String pathToUseInRules) {
+    boolean ignored = ignoredFields.contains(pathToUseInRules) || matchesAny(ignoredFieldsRegexes, pathToUseInRules);
+    boolean collectionOrderIgnored = ignoredCollectionOrderInFields.contains(pathToUseInRules)
+                                     || matchesAny(ignoredCollectionOrderInFieldsMatchingRegexes, pathToUseInRules);
+    boolean overriddenEqualsIgnored = ignoredOverriddenEqualsForFields.contains(pathToUseInRules);
+    return new FieldLocationRules(ignored, collectionOrderIgnored, overriddenEqualsIgnored);
+  }
+
+  private static boolean matchesAny(List<Pattern> regexes, String pathToUseInRules) {
+    return regexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
   }
 
   private void describeIgnoredFieldsRegexes(StringBuilder description) {
@@ -712,10 +909,6 @@ public class RecursiveComparisonConfiguration {
     return ignoredOverriddenEqualsForTypes.contains(clazz);
   }
 
-  private boolean matchesAnIgnoredOverriddenEqualsField(FieldLocation fieldLocation) {
-    return ignoredOverriddenEqualsForFields.stream().anyMatch(fieldLocation::matches);
-  }
-
   private boolean matchesAnIgnoredNullField(DualValue dualValue) {
     return (ignoreAllActualNullFields && dualValue.actual == null)
            || (ignoreAllExpectedNullFields && dualValue.expected == null);
@@ -726,11 +919,6 @@ public class RecursiveComparisonConfiguration {
            && dualValue.isActualFieldAnEmptyOptionalOfAnyType();
   }
 
-  private boolean matchesAnIgnoredFieldRegex(FieldLocation fieldLocation) {
-    return ignoredFieldsRegexes.stream()
-                               .anyMatch(regex -> regex.matcher(fieldLocation.getPathToUseInRules()).matches());
-  }
-
   private boolean matchesAnIgnoredFieldType(DualValue dualValue) {
     Object actual = dualValue.actual;
     if (actual != null) return ignoredTypes.contains(actual.getClass());
@@ -742,19 +930,6 @@ public class RecursiveComparisonConfiguration {
     return false;
   }
 
-  private boolean matchesAnIgnoredField(FieldLocation fieldLocation) {
-    return ignoredFields.stream().anyMatch(fieldLocation::matches);
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInField(FieldLocation fieldLocation) {
-    return ignoredCollectionOrderInFields.stream().anyMatch(fieldLocation::matches);
-  }
-
-  private boolean matchesAnIgnoredCollectionOrderInFieldRegex(FieldLocation fieldLocation) {
-    String pathToUseInRules = fieldLocation.getPathToUseInRules();
-    return ignoredCollectionOrderInFieldsMatchingRegexes.stream().anyMatch(regex -> regex.matcher(pathToUseInRules).matches());
-  }
-
   private String describeIgnoredFields() {
     return join(ignoredFields).with(", ");
   }
@@ -828,6 +1003,30 @@ public class RecursiveComparisonConfiguration {
     description.append(format(str));
   }
 
+  private void describeParallelism(StringBuilder description) {
+    if (parallelism > 1)
+      description.append(format("- independent parts of actual and expected objects were compared in parallel by %s threads.%n",
+                                parallelism));
+  }
+
+  private void describeMaxDifferences(StringBuilder description) {
+    if (hasMaxDifferences())
+      description.append(format("- the comparison stops after finding %s difference(s).%n", maxDifferences));
+  }
+
+  // the rules applying to a field location
+  private static final class FieldLocationRules {
+    private final boolean ignored;
+    private final boolean collectionOrderIgnored;
+    private final boolean overriddenEqualsIgnored;
+
+    private FieldLocationRules(boolean ignored, boolean collectionOrderIgnored, boolean overriddenEqualsIgnored) {
+      this.ignored = ignored;
+      this.collectionOrderIgnored = collectionOrderIgnored;
+      this.overriddenEqualsIgnored = overriddenEqualsIgnored;
+    }
+  }
+
   /**
    * Creates builder to build {@link RecursiveComparisonConfiguration}.
    * @return created builder
@@ -841,6 +1040,8 @@ public class RecursiveComparisonConfiguration {
    */
   public static final class Builder {
     private boolean strictTypeChecking;
+    private int parallelism = 1;
+    private int maxDifferences = Integer.MAX_VALUE;
     private boolean ignoreAllActualNullFields;
     private boolean ignoreAllActualEmptyOptionalFields;
     private boolean ignoreAllExpectedNullFields;
@@ -873,6 +1074,33 @@ public class RecursiveComparisonConfiguration {
       return this;
     }
 
+    /**
+     * Sets the number of threads used to compare the independent parts of the compared objects, 1 (the default) means the
+     * comparison is performed by the calling thread only.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withParallelism(int)} for more details.
+     *
+     * @param parallelism the number of threads used by the recursive comparison.
+     * @return this builder.
+     */
+    public Builder withParallelism(int parallelism) {
+      this.parallelism = parallelism;
+      return this;
+    }
+
+    /**
+     * Sets the number of differences after which the recursive comparison stops, by default all differences are reported.
+     * <p>
+     * See {@link RecursiveComparisonAssert#withMaxDifferences(int)} for more details.
+     *
+     * @param maxDifferences the number of differences after which the recursive comparison stops.
+     * @return this builder.
+     */
+    public Builder withMaxDifferences(int maxDifferences) {
+      this.maxDifferences = maxDifferences;
+      return this;
+    }
+
     /**
      * Sets whether actual null fields are ignored in the recursive comparison.
      * <p>
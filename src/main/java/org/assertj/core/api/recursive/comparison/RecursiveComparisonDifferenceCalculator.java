@@ -13,26 +13,32 @@
 package org.assertj.core.api.recursive.comparison;
 
 import static java.lang.String.format;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.nCopies;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toMap;
 import static org.assertj.core.api.recursive.comparison.ComparisonDifference.rootComparisonDifference;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.comparisonPlanOf;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.readFieldValue;
 import static org.assertj.core.api.recursive.comparison.DualValue.DEFAULT_ORDERED_COLLECTION_TYPES;
 import static org.assertj.core.api.recursive.comparison.FieldLocation.rootFieldLocation;
 import static org.assertj.core.internal.Objects.getDeclaredFieldsIncludingInherited;
-import static org.assertj.core.internal.Objects.getFieldsNames;
 import static org.assertj.core.util.IterableUtil.sizeOf;
-import static org.assertj.core.util.IterableUtil.toCollection;
 import static org.assertj.core.util.Lists.list;
 import static org.assertj.core.util.Sets.newHashSet;
-import static org.assertj.core.util.introspection.PropertyOrFieldSupport.COMPARISON;
 
 import java.lang.reflect.Array;
 import java.lang.reflect.Field;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -40,6 +46,9 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Stream;
 
 import org.assertj.core.internal.DeepDifference;
@@ -64,52 +73,67 @@ public class RecursiveComparisonDifferenceCalculator {
   private static final String MISSING_FIELDS = "%s can't be compared to %s as %s does not declare all %s fields, it lacks these: %s";
   private static final Map<Class<?>, Boolean> customEquals = new ConcurrentHashMap<>();
   private static final Map<Class<?>, Boolean> customHash = new ConcurrentHashMap<>();
+  // number of dual values to compare above which half of them are compared by a new task in parallel mode
+  private static final int PARALLEL_SPLIT_THRESHOLD = 256;
+  // one pool per parallelism, shared by the parallel comparisons
+  private static final Map<Integer, ForkJoinPool> FORK_JOIN_POOLS = new ConcurrentHashMap<>();
 
   private static class ComparisonState {
     // Not using a Set as we want to precisely track visited values, a set would remove duplicates
-    List<DualValue> visitedDualValues;
+    VisitedDualValues visitedDualValues;
     List<ComparisonDifference> differences = new ArrayList<>();
     DualValueDeque dualValuesToCompare;
     RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+    // the comparison stops once this number of differences has been found
+    int maxDifferences;
 
-    public ComparisonState(List<DualValue> visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    public ComparisonState(VisitedDualValues visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                           int maxDifferences) {
       this.visitedDualValues = visited;
       this.dualValuesToCompare = new DualValueDeque(recursiveComparisonConfiguration);
       this.recursiveComparisonConfiguration = recursiveComparisonConfiguration;
+      this.maxDifferences = maxDifferences;
     }
 
     void addDifference(DualValue dualValue) {
-      differences.add(new ComparisonDifference(dualValue));
+      addDifference(new ComparisonDifference(dualValue));
     }
 
     void addDifference(DualValue dualValue, String description, Object... args) {
-      differences.add(new ComparisonDifference(dualValue, format(description, args)));
+      addDifference(new ComparisonDifference(dualValue, format(description, args)));
+    }
+
+    void addDifference(ComparisonDifference difference) {
+      differences.add(difference);
     }
 
     public List<ComparisonDifference> getDifferences() {
-      Collections.sort(differences);
-      return differences;
+      return sortedDifferences(differences, maxDifferences);
     }
 
     public boolean hasDualValuesToCompare() {
       return !dualValuesToCompare.isEmpty();
     }
 
+    public boolean hasReachedMaxDifferences() {
+      return differences.size() >= maxDifferences;
+    }
+
     public DualValue pickDualValueToCompare() {
       final DualValue dualValue = dualValuesToCompare.removeFirst();
       if (dualValue.hasPotentialCyclingValues()) {
         // visited dual values are here to avoid cycle, java types don't have cycle, there is no need to track them.
         // moreover this would make should_fix_1854_minimal_test to fail (see the test for a detailed explanation)
-        visitedDualValues.add(dualValue);
+        visitedDualValues.registerVisitedDualValue(dualValue);
       }
       return dualValue;
     }
 
-    private void registerForComparison(DualValue dualValue) {
-      if (!visitedDualValues.contains(dualValue)) dualValuesToCompare.addFirst(dualValue);
+    void registerForComparison(DualValue dualValue) {
+      if (!visitedDualValues.alreadyVisited(dualValue)) dualValuesToCompare.addFirst(dualValue);
     }
 
-    private void initDualValuesToCompare(Object actual, Object expected, FieldLocation fieldLocation, boolean isRootObject) {
+    void initDualValuesToCompare(Object actual, Object expected, FieldLocation fieldLocation, boolean isRootObject) {
       DualValue dualValue = new DualValue(fieldLocation, actual, expected);
       boolean mustCompareFieldsRecursively = mustCompareFieldsRecursively(isRootObject, dualValue);
       if (dualValue.hasNoNullValues() && dualValue.hasNoContainerValues() && mustCompareFieldsRecursively) {
@@ -118,13 +142,13 @@ public class RecursiveComparisonDifferenceCalculator {
         if (!nonIgnoredActualFieldsNames.isEmpty()) {
           // fields to ignore are evaluated when adding their corresponding dualValues to dualValuesToCompare which filters
           // ignored fields according to recursiveComparisonConfiguration
-          Set<String> expectedFieldsNames = getFieldsNames(expected.getClass());
+          Set<String> expectedFieldsNames = comparisonPlanOf(expected.getClass()).getFieldNames();
           if (expectedFieldsNames.containsAll(nonIgnoredActualFieldsNames)) {
             // we compare actual fields vs expected, ignoring expected additional fields
             for (String nonIgnoredActualFieldName : nonIgnoredActualFieldsNames) {
               DualValue fieldDualValue = new DualValue(fieldLocation.field(nonIgnoredActualFieldName),
-                                                       COMPARISON.getSimpleValue(nonIgnoredActualFieldName, actual),
-                                                       COMPARISON.getSimpleValue(nonIgnoredActualFieldName, expected));
+                                                       readFieldValue(nonIgnoredActualFieldName, actual),
+                                                       readFieldValue(nonIgnoredActualFieldName, expected));
               dualValuesToCompare.addFirst(fieldDualValue);
             }
           } else {
@@ -141,10 +165,7 @@ public class RecursiveComparisonDifferenceCalculator {
       // it occurs to unordered collection where we compare all possible combination of the collection elements recursively
       // --
       // remove visited values one by one, DualValue.equals correctly compare respective actual and expected fields by reference
-      visitedDualValues.forEach(visitedDualValue -> dualValuesToCompare.stream()
-                                                                       .filter(dualValueToCompare -> dualValueToCompare.equals(visitedDualValue))
-                                                                       .findFirst()
-                                                                       .ifPresent(dualValuesToCompare::remove));
+      dualValuesToCompare.removeVisitedDualValues(visitedDualValues);
     }
 
     private boolean mustCompareFieldsRecursively(boolean isRootObject, DualValue dualValue) {
@@ -178,125 +199,360 @@ public class RecursiveComparisonDifferenceCalculator {
    */
   public List<ComparisonDifference> determineDifferences(Object actual, Object expected,
                                                          RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
+    return determineComparisonDifferences(actual, expected, recursiveComparisonConfiguration).getDifferences();
+  }
+
+  /**
+   * Same as {@link #determineDifferences(Object, Object, RecursiveComparisonConfiguration)} but also tells whether the
+   * comparison has stopped before the end because there were more differences than the max number of differences.
+   *
+   * @param actual Object one to compare
+   * @param expected Object two to compare
+   * @param recursiveComparisonConfiguration the recursive comparison configuration
+   * @return the differences found and whether the comparison has stopped before the end.
+   */
+  public ComparisonDifferences determineComparisonDifferences(Object actual, Object expected,
+                                                              RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
     if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(actual, expected)) {
-      return list(expectedAndActualTypeDifference(actual, expected));
+      return new ComparisonDifferences(list(expectedAndActualTypeDifference(actual, expected)), false);
+    }
+    int maxDifferences = recursiveComparisonConfiguration.getMaxDifferences();
+    // the comparison looks for one more difference than reported to know whether other differences exist
+    int differencesToFind = recursiveComparisonConfiguration.hasMaxDifferences() ? maxDifferences + 1 : maxDifferences;
+    List<ComparisonDifference> differences = recursiveComparisonConfiguration.getParallelism() > 1
+        ? determineDifferencesInParallel(actual, expected, recursiveComparisonConfiguration, differencesToFind)
+        : compare(actual, expected, rootFieldLocation(), true, new VisitedDualValues(), recursiveComparisonConfiguration,
+                  differencesToFind).differences;
+    return new ComparisonDifferences(sortedDifferences(differences, maxDifferences), differences.size() > maxDifferences);
+  }
+
+  // returns the differences in the single threaded comparison order
+  private static List<ComparisonDifference> determineDifferencesInParallel(Object actual, Object expected,
+                                                                           RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                           int maxDifferences) {
+    ComparisonBranch rootBranch = new ComparisonBranch(recursiveComparisonConfiguration, maxDifferences);
+    rootBranch.initDualValuesToCompare(actual, expected, rootFieldLocation(), true);
+    forkJoinPool(recursiveComparisonConfiguration.getParallelism()).invoke(new ComparisonTask(rootBranch));
+    List<ComparisonDifference> differences = new ArrayList<>();
+    rootBranch.collectDifferences(differences);
+    return differences;
+  }
+
+  private static ForkJoinPool forkJoinPool(int parallelism) {
+    // the pool threads are daemon threads which terminate when idle, the pools can thus be kept for the next comparisons
+    return FORK_JOIN_POOLS.computeIfAbsent(parallelism, ForkJoinPool::new);
+  }
+
+  // The comparison state of a branch of a parallel comparison.
+  // Branches are ordered as their dual values are in a single threaded comparison: a branch compares its own dual values
+  // first, then the ones moved to its forked branches, starting with the last forked one which got the first dual values.
+  // A dual value referenced from several branches is owned by the first branch in that order, the differences found by other
+  // branches in it are discarded. The reported differences thus don't depend on which branch has compared it first.
+  private static class ComparisonBranch extends ComparisonState {
+
+    // the owner of each dual value with potential cycling values compared by any branch, shared by all branches
+    private final Map<DualValue, ComparisonBranch> owners;
+    // the position of the branch in its parent forked branches, for each of its ancestors, see comesBefore
+    private final int[] position;
+    private final List<ComparisonBranch> forkedBranches = new ArrayList<>();
+    // the claim of the compared dual value which has registered each dual value to compare, if any
+    private final Map<DualValue, Claim> claimsOfDualValuesToCompare = new IdentityHashMap<>();
+    // the claim of the compared dual value in which each difference was found, if any
+    private final List<Claim> claimsOfDifferences = new ArrayList<>();
+    private Claim currentClaim;
+
+    private ComparisonBranch(RecursiveComparisonConfiguration recursiveComparisonConfiguration, int maxDifferences) {
+      this(new VisitedDualValues(), recursiveComparisonConfiguration, maxDifferences, new ConcurrentHashMap<>(), new int[0]);
+    }
+
+    private ComparisonBranch(VisitedDualValues visited, RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                             int maxDifferences, Map<DualValue, ComparisonBranch> owners, int[] position) {
+      super(visited, recursiveComparisonConfiguration, maxDifferences);
+      this.owners = owners;
+      this.position = position;
+    }
+
+    // returns null if the picked dual value is owned by another branch
+    @Override
+    public DualValue pickDualValueToCompare() {
+      DualValue dualValue = super.pickDualValueToCompare();
+      currentClaim = claimsOfDualValuesToCompare.remove(dualValue);
+      if (dualValue.hasPotentialCyclingValues()) {
+        ComparisonBranch owner = owners.merge(dualValue, this, ComparisonBranch::first);
+        // the differences found in it by this branch would be discarded
+        if (owner != this) return null;
+        currentClaim = new Claim(dualValue, this, currentClaim);
+      }
+      return dualValue;
+    }
+
+    @Override
+    void registerForComparison(DualValue dualValue) {
+      super.registerForComparison(dualValue);
+      boolean registered = dualValuesToCompare.peekFirst() == dualValue;
+      if (registered && currentClaim != null) claimsOfDualValuesToCompare.put(dualValue, currentClaim);
+    }
+
+    @Override
+    void addDifference(ComparisonDifference difference) {
+      super.addDifference(difference);
+      claimsOfDifferences.add(currentClaim);
+    }
+
+    // moves the last half of the dual values to compare to a new branch which gets its own copy of the visited dual values to
+    // detect its cycles
+    private ComparisonBranch fork() {
+      int[] forkedBranchPosition = Arrays.copyOf(position, position.length + 1);
+      // the last forked branch comes first
+      forkedBranchPosition[position.length] = -forkedBranches.size();
+      ComparisonBranch forkedBranch = new ComparisonBranch(new VisitedDualValues(visitedDualValues),
+                                                           recursiveComparisonConfiguration, maxDifferences, owners,
+                                                           forkedBranchPosition);
+      forkedBranches.add(forkedBranch);
+      int dualValuesToMove = dualValuesToCompare.size() / 2;
+      for (int i = 0; i < dualValuesToMove; i++) {
+        DualValue dualValue = dualValuesToCompare.removeLast();
+        forkedBranch.dualValuesToCompare.addFirst(dualValue);
+        Claim claim = claimsOfDualValuesToCompare.remove(dualValue);
+        if (claim != null) forkedBranch.claimsOfDualValuesToCompare.put(dualValue, claim);
+      }
+      return forkedBranch;
+    }
+
+    // adds the kept differences of this branch and of its forked branches in the single threaded comparison order until
+    // there are maxDifferences of them, must be called once all the branches have completed.
+    private void collectDifferences(List<ComparisonDifference> collectedDifferences) {
+      int checkedDifferences = 0;
+      while (collectedDifferences.size() < maxDifferences) {
+        if (checkedDifferences < differences.size()) {
+          Claim claim = claimsOfDifferences.get(checkedDifferences);
+          if (claim == null || claim.isKept()) collectedDifferences.add(differences.get(checkedDifferences));
+          checkedDifferences++;
+        } else if (hasDualValuesToCompare()) {
+          // this branch has stopped after finding maxDifferences differences but some of them were discarded, a single
+          // threaded comparison would have gone on, dual values owned by the previous branches can't change anymore.
+          DualValue dualValue = pickDualValueToCompare();
+          if (dualValue != null) compareDualValue(dualValue, this);
+        } else {
+          break;
+        }
+      }
+      for (int i = forkedBranches.size() - 1; i >= 0 && collectedDifferences.size() < maxDifferences; i--) {
+        forkedBranches.get(i).collectDifferences(collectedDifferences);
+      }
+    }
+
+    private static ComparisonBranch first(ComparisonBranch branch, ComparisonBranch otherBranch) {
+      return otherBranch.comesBefore(branch) ? otherBranch : branch;
+    }
+
+    private boolean comesBefore(ComparisonBranch other) {
+      for (int i = 0; i < position.length && i < other.position.length; i++) {
+        if (position[i] != other.position[i]) return position[i] < other.position[i];
+      }
+      // a branch comes before its forked branches
+      return position.length < other.position.length;
+    }
+
+  }
+
+  // A dual value compared by a branch, with the claim of the dual value in which it was found. The differences found in it are
+  // kept if the branch owns it and the parent claim is kept.
+  private static class Claim {
+
+    private final DualValue dualValue;
+    private final ComparisonBranch branch;
+    private final Claim parent;
+    // resolved once all branches have completed
+    private Boolean kept;
+
+    private Claim(DualValue dualValue, ComparisonBranch branch, Claim parent) {
+      this.dualValue = dualValue;
+      this.branch = branch;
+      this.parent = parent;
+    }
+
+    private boolean isKept() {
+      // claims can be nested as deeply as the compared objects, they are resolved without recursion
+      Deque<Claim> unresolvedClaims = new ArrayDeque<>();
+      Claim claim = this;
+      while (claim != null && claim.kept == null) {
+        unresolvedClaims.push(claim);
+        claim = claim.parent;
+      }
+      boolean parentKept = claim == null || claim.kept;
+      for (Claim unresolvedClaim : unresolvedClaims) {
+        parentKept = parentKept && unresolvedClaim.branch.owners.get(unresolvedClaim.dualValue) == unresolvedClaim.branch;
+        unresolvedClaim.kept = parentKept;
+      }
+      return kept;
     }
-    List<DualValue> visited = list();
-    return determineDifferences(actual, expected, rootFieldLocation(), true, visited, recursiveComparisonConfiguration);
+
+  }
+
+  // Compares the dual values of its branch and forks a new task to compare half of them whenever there are too many.
+  // Which dual values are compared by which task only depends on the compared objects, which differences are kept only
+  // depends on the branches order, none depend on the threads scheduling.
+  @SuppressWarnings("serial")
+  private static class ComparisonTask extends RecursiveAction {
+
+    private final transient ComparisonBranch comparisonBranch;
+
+    private ComparisonTask(ComparisonBranch comparisonBranch) {
+      this.comparisonBranch = comparisonBranch;
+    }
+
+    @Override
+    protected void compute() {
+      List<ComparisonTask> forkedTasks = new ArrayList<>();
+      while (comparisonBranch.hasDualValuesToCompare() && !comparisonBranch.hasReachedMaxDifferences()) {
+        if (comparisonBranch.dualValuesToCompare.size() >= PARALLEL_SPLIT_THRESHOLD) {
+          ComparisonTask forkedTask = new ComparisonTask(comparisonBranch.fork());
+          forkedTask.fork();
+          forkedTasks.add(forkedTask);
+        }
+        DualValue dualValue = comparisonBranch.pickDualValueToCompare();
+        if (dualValue != null) compareDualValue(dualValue, comparisonBranch);
+      }
+      forkedTasks.forEach(ForkJoinTask::join);
+    }
+
   }
 
   // TODO keep track of ignored fields in an RecursiveComparisonExecution class ?
 
   private static List<ComparisonDifference> determineDifferences(Object actual, Object expected, FieldLocation fieldLocation,
-                                                                 boolean isRootObject, List<DualValue> visited,
-                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration) {
-    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration);
+                                                                 boolean isRootObject, VisitedDualValues visited,
+                                                                 RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                 int maxDifferences) {
+    return compare(actual, expected, fieldLocation, isRootObject, visited, recursiveComparisonConfiguration,
+                   maxDifferences).getDifferences();
+  }
+
+  private static ComparisonState compare(Object actual, Object expected, FieldLocation fieldLocation, boolean isRootObject,
+                                         VisitedDualValues visited,
+                                         RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                         int maxDifferences) {
+    ComparisonState comparisonState = new ComparisonState(visited, recursiveComparisonConfiguration, maxDifferences);
     comparisonState.initDualValuesToCompare(actual, expected, fieldLocation, isRootObject);
 
-    while (comparisonState.hasDualValuesToCompare()) {
-      final DualValue dualValue = comparisonState.pickDualValueToCompare();
+    while (comparisonState.hasDualValuesToCompare() && !comparisonState.hasReachedMaxDifferences()) {
+      compareDualValue(comparisonState.pickDualValueToCompare(), comparisonState);
+    }
+    return comparisonState;
+  }
+
+  private static List<ComparisonDifference> sortedDifferences(List<ComparisonDifference> differences, int maxDifferences) {
+    // keep the first differences found, the comparison might have found more than maxDifferences of them
+    List<ComparisonDifference> sortedDifferences = differences.size() > maxDifferences
+        ? new ArrayList<>(differences.subList(0, maxDifferences))
+        : differences;
+    Collections.sort(sortedDifferences);
+    return sortedDifferences;
+  }
 
-      final Object actualFieldValue = dualValue.actual;
-      final Object expectedFieldValue = dualValue.expected;
+  private static void compareDualValue(final DualValue dualValue, ComparisonState comparisonState) {
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = comparisonState.recursiveComparisonConfiguration;
 
-      if (actualFieldValue == expectedFieldValue) continue;
+    final Object actualFieldValue = dualValue.actual;
+    final Object expectedFieldValue = dualValue.expected;
 
-      // Custom comparators take precedence over all other types of comparison
-      if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
-        if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
-        // since we used a custom comparator we don't need to inspect the nested fields any further
-        continue;
-      }
+    if (actualFieldValue == expectedFieldValue) return;
 
-      if (actualFieldValue == null || expectedFieldValue == null) {
-        // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
-        comparisonState.addDifference(dualValue);
-        continue;
-      }
+    // Custom comparators take precedence over all other types of comparison
+    if (recursiveComparisonConfiguration.hasCustomComparator(dualValue)) {
+      if (!propertyOrFieldValuesAreEqual(dualValue, recursiveComparisonConfiguration)) comparisonState.addDifference(dualValue);
+      // since we used a custom comparator we don't need to inspect the nested fields any further
+      return;
+    }
 
-      if (dualValue.isExpectedAnEnum()) {
-        compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
-        continue;
-      }
-      // TODO move hasFieldTypesDifference check into each compareXXX
+    if (actualFieldValue == null || expectedFieldValue == null) {
+      // one of the value is null while the other is not as we already know that actualFieldValue != expectedFieldValue
+      comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnArray()) {
-        compareArrays(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedAnEnum()) {
+      compareAsEnums(dualValue, comparisonState, recursiveComparisonConfiguration);
+      return;
+    }
+    // TODO move hasFieldTypesDifference check into each compareXXX
 
-      // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
-      // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
-      if (dualValue.isExpectedFieldAnOrderedCollection()
-          && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
-        compareOrderedCollections(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnArray()) {
+      compareArrays(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnIterable()) {
-        compareUnorderedIterables(dualValue, comparisonState);
-        continue;
-      }
+    // we compare ordered collections specifically as to be matching, each pair of elements at a given index must match.
+    // concretely we compare: (col1[0] vs col2[0]), (col1[1] vs col2[1])...(col1[n] vs col2[n])
+    if (dualValue.isExpectedFieldAnOrderedCollection()
+        && !recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(dualValue.fieldLocation)) {
+      compareOrderedCollections(dualValue, comparisonState);
+      return;
+    }
 
-      if (dualValue.isExpectedFieldAnOptional()) {
-        compareOptional(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnIterable()) {
+      compareUnorderedIterables(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
-      if (dualValue.isExpectedFieldASortedMap()) {
-        compareSortedMap(dualValue, comparisonState);
-        continue;
-      }
+    if (dualValue.isExpectedFieldAnOptional()) {
+      compareOptional(dualValue, comparisonState);
+      return;
+    }
 
-      // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
-      // temporary Map must be created, however the comparison still runs in O(N) time.
-      if (dualValue.isExpectedFieldAMap()) {
-        compareUnorderedMap(dualValue, comparisonState);
-        continue;
-      }
+    // Compare two SortedMaps taking advantage of the fact that these Maps can be compared in O(N) time due to their ordering
+    if (dualValue.isExpectedFieldASortedMap()) {
+      compareSortedMap(dualValue, comparisonState);
+      return;
+    }
 
-      if (shouldCompareDualValue(recursiveComparisonConfiguration, dualValue)) {
-        if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
-        continue;
-      }
+    // Compare two Unordered Maps. This is a slightly more expensive comparison because order cannot be assumed, therefore a
+    // temporary Map must be created, however the comparison still runs in O(N) time.
+    if (dualValue.isExpectedFieldAMap()) {
+      compareUnorderedMap(dualValue, comparisonState);
+      return;
+    }
 
-      Class<?> actualFieldValueClass = actualFieldValue.getClass();
-      Class<?> expectedFieldClass = expectedFieldValue.getClass();
-      if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
-        comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
-                                      actualFieldValueClass.getName());
-        continue;
-      }
+    if (shouldCompareDualValue(recursiveComparisonConfiguration, dualValue)) {
+      if (!actualFieldValue.equals(expectedFieldValue)) comparisonState.addDifference(dualValue);
+      return;
+    }
 
-      Set<String> actualNonIgnoredFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
-      Set<String> expectedFieldsNames = getFieldsNames(expectedFieldClass);
-      // Check if expected has more fields than actual, in that case the additional fields are reported as difference
-      if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
-        // report missing fields in actual
-        Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
-        actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
-        String missingFields = actualFieldsNamesNotInExpected.toString();
-        String expectedClassName = expectedFieldClass.getName();
-        String actualClassName = actualFieldValueClass.getName();
-        String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
-                                                 expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
-                                                 missingFields);
-        comparisonState.addDifference(dualValue, missingFieldsDescription);
-      } else { // TODO remove else to report more diff
-        // compare actual's fields against expected :
-        // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
-        for (String actualFieldName : actualNonIgnoredFieldsNames) {
-          if (expectedFieldsNames.contains(actualFieldName)) {
-            DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualFieldName),
-                                                   COMPARISON.getSimpleValue(actualFieldName, actualFieldValue),
-                                                   COMPARISON.getSimpleValue(actualFieldName, expectedFieldValue));
-            comparisonState.registerForComparison(newDualValue);
-          }
+    Class<?> actualFieldValueClass = actualFieldValue.getClass();
+    Class<?> expectedFieldClass = expectedFieldValue.getClass();
+    if (recursiveComparisonConfiguration.isInStrictTypeCheckingMode() && expectedTypeIsNotSubtypeOfActualType(dualValue)) {
+      comparisonState.addDifference(dualValue, STRICT_TYPE_ERROR, expectedFieldClass.getName(),
+                                    actualFieldValueClass.getName());
+      return;
+    }
+
+    Set<String> actualNonIgnoredFieldsNames = recursiveComparisonConfiguration.getNonIgnoredActualFieldNames(dualValue);
+    Set<String> expectedFieldsNames = comparisonPlanOf(expectedFieldClass).getFieldNames();
+    // Check if expected has more fields than actual, in that case the additional fields are reported as difference
+    if (!expectedFieldsNames.containsAll(actualNonIgnoredFieldsNames)) {
+      // report missing fields in actual
+      Set<String> actualFieldsNamesNotInExpected = newHashSet(actualNonIgnoredFieldsNames);
+      actualFieldsNamesNotInExpected.removeAll(expectedFieldsNames);
+      String missingFields = actualFieldsNamesNotInExpected.toString();
+      String expectedClassName = expectedFieldClass.getName();
+      String actualClassName = actualFieldValueClass.getName();
+      String missingFieldsDescription = format(MISSING_FIELDS, actualClassName, expectedClassName,
+                                               expectedFieldClass.getSimpleName(), actualFieldValueClass.getSimpleName(),
+                                               missingFields);
+      comparisonState.addDifference(dualValue, missingFieldsDescription);
+    } else { // TODO remove else to report more diff
+      // compare actual's fields against expected :
+      // - if actual has more fields than expected, the additional fields are ignored as expected is the reference
+      for (String actualFieldName : actualNonIgnoredFieldsNames) {
+        if (expectedFieldsNames.contains(actualFieldName)) {
+          DualValue newDualValue = new DualValue(dualValue.fieldLocation.field(actualFieldName),
+                                                 readFieldValue(actualFieldName, actualFieldValue),
+                                                 readFieldValue(actualFieldName, expectedFieldValue));
+          comparisonState.registerForComparison(newDualValue);
         }
       }
     }
-    return comparisonState.getDifferences();
   }
 
   private static boolean shouldCompareDualValue(RecursiveComparisonConfiguration recursiveComparisonConfiguration,
@@ -409,29 +665,56 @@ public class RecursiveComparisonDifferenceCalculator {
       // - unexpected actual elements (the ones not matching any expected)
       // - expected elements not found in actual.
     }
-    // copy expected as we will remove elements found in actual
-    Collection<?> expectedCopy = new LinkedList<>(toCollection(expected));
+    // group expected elements by fingerprint as actual elements can only match expected elements with the same fingerprint,
+    // if fingerprints can't be computed, all elements are put in the same group.
+    ElementFingerprinter elementFingerprinter = new ElementFingerprinter(dualValue.fieldLocation,
+                                                                         comparisonState.recursiveComparisonConfiguration);
+    List<Integer> fingerprints = elementFingerprinter.fingerprintsOf(actual, expected)
+                                                     .orElseGet(() -> nCopies(actualSize + expectedSize, 0));
+    Iterator<Integer> expectedFingerprints = fingerprints.listIterator(actualSize);
+    // the groups are copies of expected as we will remove elements found in actual
+    Map<Integer, Collection<Object>> expectedElementsByFingerprint = new HashMap<>();
+    for (Object expectedElement : expected) {
+      expectedElementsByFingerprint.computeIfAbsent(expectedFingerprints.next(), fingerprint -> new LinkedList<>())
+                                   .add(expectedElement);
+    }
+    // when the comparison stops after a max number of differences, only the first difference matters: elements comparisons
+    // can stop at their first difference and the iterables are different as soon as an actual element matches no expected one.
+    boolean stopsAtFirstDifference = comparisonState.recursiveComparisonConfiguration.hasMaxDifferences();
+    int elementMaxDifferences = stopsAtFirstDifference ? 1 : Integer.MAX_VALUE;
+    Iterator<Integer> actualFingerprints = fingerprints.iterator();
+    int matchedElements = 0;
     for (Object actualElement : actual) {
-      // compare recursively actualElement to all remaining expected elements
-      Iterator<?> expectedIterator = expectedCopy.iterator();
+      boolean actualElementMatched = false;
+      // compare recursively actualElement to all remaining expected elements with the same fingerprint
+      Collection<Object> expectedCandidates = expectedElementsByFingerprint.getOrDefault(actualFingerprints.next(), emptyList());
+      Iterator<?> expectedIterator = expectedCandidates.iterator();
       while (expectedIterator.hasNext()) {
         Object expectedElement = expectedIterator.next();
         // we need to get the currently visited dual values otherwise a cycle would cause an infinite recursion.
         List<ComparisonDifference> differences = determineDifferences(actualElement, expectedElement, dualValue.fieldLocation,
                                                                       false, comparisonState.visitedDualValues,
-                                                                      comparisonState.recursiveComparisonConfiguration);
+                                                                      comparisonState.recursiveComparisonConfiguration,
+                                                                      elementMaxDifferences);
         if (differences.isEmpty()) {
           // we found an element in expected matching actualElement, we must remove it as if actual matches expected
           // it means for each actual element there is one and only matching expected element.
           expectedIterator.remove();
+          actualElementMatched = true;
+          matchedElements++;
           // jump to next actual element check
           break;
         }
       }
+      if (!actualElementMatched && stopsAtFirstDifference) {
+        // iterables are not equal, no need to look for a match for the remaining actual elements
+        comparisonState.addDifference(dualValue);
+        return;
+      }
     }
 
-    // expectedCopy not empty = there was at least one actual element not matching any expected elements.
-    if (!expectedCopy.isEmpty()) comparisonState.addDifference(dualValue);
+    // some expected elements were not matched = there was at least one actual element not matching any expected elements.
+    if (matchedElements != expectedSize) comparisonState.addDifference(dualValue);
     // TODO instead we could register the diff between expected and actual that is:
     // - unexpected actual elements (the ones not matching any expected)
     // - expected elements not found in actual.
@@ -612,7 +895,7 @@ public class RecursiveComparisonDifferenceCalculator {
 
       Collection<Field> fields = getDeclaredFieldsIncludingInherited(obj.getClass());
       for (Field field : fields) {
-        stack.addFirst(COMPARISON.getSimpleValue(field.getName(), obj));
+        stack.addFirst(readFieldValue(field.getName(), obj));
       }
     }
     return hash;
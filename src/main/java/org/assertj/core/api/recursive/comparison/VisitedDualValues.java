@@ -0,0 +1,46 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Tracks visited dual values by (actual, expected) reference pair.
+// Not a Set as we want to precisely track visited values, a set would remove duplicates, instead each pair is mapped to
+// the number of times it was visited.
+class VisitedDualValues {
+
+  // DualValue equals/hashCode only consider the actual and expected references, which makes it a suitable identity key
+  private final Map<DualValue, Integer> visitCounts;
+
+  VisitedDualValues() {
+    visitCounts = new HashMap<>();
+  }
+
+  VisitedDualValues(VisitedDualValues visitedDualValues) {
+    visitCounts = new HashMap<>(visitedDualValues.visitCounts);
+  }
+
+  void registerVisitedDualValue(DualValue dualValue) {
+    visitCounts.merge(dualValue, 1, Integer::sum);
+  }
+
+  boolean alreadyVisited(DualValue dualValue) {
+    return visitCounts.containsKey(dualValue);
+  }
+
+  int visitCount(DualValue dualValue) {
+    return visitCounts.getOrDefault(dualValue, 0);
+  }
+
+}
@@ -25,6 +25,7 @@ import java.util.stream.Stream;
 
 import org.assertj.core.api.Assertions;
 import org.assertj.core.description.Description;
+import org.assertj.core.internal.PatternCache;
 import org.assertj.core.presentation.Representation;
 
 /**
@@ -45,6 +46,7 @@ public class Configuration {
   public static final boolean BARE_NAME_PROPERTY_EXTRACTION_ENABLED = true;
   public static final boolean LENIENT_DATE_PARSING = false;
   public static final boolean PRINT_ASSERTIONS_DESCRIPTION_ENABLED = false;
+  public static final int PATTERN_CACHE_SIZE = 100;
 
   private boolean comparingPrivateFields = ALLOW_COMPARING_PRIVATE_FIELDS;
   private boolean extractingPrivateFields = ALLOW_EXTRACTING_PRIVATE_FIELDS;
@@ -55,6 +57,7 @@ public class Configuration {
   private int maxLengthForSingleLineDescription = MAX_LENGTH_FOR_SINGLE_LINE_DESCRIPTION;
   private int maxElementsForPrinting = MAX_ELEMENTS_FOR_PRINTING;
   private boolean printAssertionsDescription = PRINT_ASSERTIONS_DESCRIPTION_ENABLED;
+  private int patternCacheSize = PATTERN_CACHE_SIZE;
   private Consumer<Description> descriptionConsumer = null;
 
   /**
@@ -279,6 +282,31 @@ public class Configuration {
     this.maxElementsForPrinting = maxElementsForPrinting;
   }
 
+  /**
+   * Returns how many patterns compiled from the regular expressions given to assertions are cached.
+   * <p>
+   * Default is {@value #PATTERN_CACHE_SIZE}.
+   *
+   * @return how many patterns compiled from the regular expressions given to assertions are cached.
+   */
+  public int patternCacheSize() {
+    return patternCacheSize;
+  }
+
+  /**
+   * Sets how many patterns compiled from the regular expressions given to assertions are cached, the least recently
+   * used patterns are evicted first. A size of 0 disables the cache.
+   * <p>
+   * Hit and miss counters are available from {@link PatternCache#instance()}.
+   * <p>
+   * Note that this change will only be effective once {@link #apply()} or {@link #applyAndDisplay()} is called.
+   *
+   * @param patternCacheSize how many compiled patterns are cached.
+   */
+  public void setPatternCacheSize(int patternCacheSize) {
+    this.patternCacheSize = patternCacheSize;
+  }
+
   public boolean printAssertionsDescription() {
     return printAssertionsDescription;
   }
@@ -309,6 +337,7 @@ public class Configuration {
     Assertions.useRepresentation(representation());
     Assertions.setDescriptionConsumer(descriptionConsumer());
     Assertions.setPrintAssertionsDescription(printAssertionsDescription());
+    PatternCache.instance().setMaxSize(patternCacheSize());
     additionalDateFormats().forEach(Assertions::registerCustomDateFormat);
   }
 
@@ -330,6 +359,7 @@ public class Configuration {
                   "- additional date formats ......................... = %s%n" +
                   "- maxLengthForSingleLineDescription ............... = %s%n" +
                   "- maxElementsForPrinting .......................... = %s%n" +
+                  "- patternCacheSize ................................ = %s%n" +
                   "- printAssertionsDescription ...................... = %s%n" +
                   "- descriptionConsumer ............................. = %s%n" +
                   "- removeAssertJRelatedElementsFromStackTraceEnabled = %s%n",
@@ -342,6 +372,7 @@ public class Configuration {
                   describeAdditionalDateFormats(),
                   maxLengthForSingleLineDescription(),
                   maxElementsForPrinting(),
+                  patternCacheSize(),
                   printAssertionsDescription(),
                   descriptionConsumer(),
                   removeAssertJRelatedElementsFromStackTraceEnabled());
@@ -47,11 +47,23 @@ public class ShouldBeEqualByComparingFieldByFieldRecursively extends BasicErrorM
                                                                                     List<ComparisonDifference> differences,
                                                                                     RecursiveComparisonConfiguration recursiveComparisonConfiguration,
                                                                                     Representation representation) {
+    return shouldBeEqualByComparingFieldByFieldRecursively(actual, other, differences, false, recursiveComparisonConfiguration,
+                                                           representation);
+  }
+
+  public static ErrorMessageFactory shouldBeEqualByComparingFieldByFieldRecursively(Object actual, Object other,
+                                                                                    List<ComparisonDifference> differences,
+                                                                                    boolean truncated,
+                                                                                    RecursiveComparisonConfiguration recursiveComparisonConfiguration,
+                                                                                    Representation representation) {
     String differencesDescription = join(differences.stream()
                                                     .map(difference -> difference.multiLineDescription(representation))
                                                     .collect(toList())).with(format("%n%n"));
     String recursiveComparisonConfigurationDescription = recursiveComparisonConfiguration.multiLineDescription(representation);
     String differencesCount = differences.size() == 1 ? "difference:%n" : "%s differences:%n";
+    if (truncated) {
+      differencesCount = differencesCount + "(the comparison has stopped after finding them, other differences might exist)%n";
+    }
     // @format:off
     return new ShouldBeEqualByComparingFieldByFieldRecursively("%n" +
                                                                "Expecting:%n" +
@@ -53,6 +53,28 @@ public class ShouldBeSorted extends BasicErrorMessageFactory {
         comparator, i, arrayWrapper.get(i), i + 1, arrayWrapper.get(i + 1), arrayWrapper);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldBeSorted}</code> for groups whose elements are not all known like streams visited once.
+   *
+   * @param i the index of elements whose not naturally ordered with the next.
+   * @param element the element at index i.
+   * @param nextElement the element at index i + 1.
+   * @param group the description of the actual group in the failed assertion.
+   * @return an instance of {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldBeSorted(int i, Object element, Object nextElement, Object group) {
+    return new ShouldBeSorted(
+        "%ngroup is not sorted because element %s:%n <%s>%nis not less or equal than element %s:%n <%s>%ngroup was:%n <%s>",
+        i, element, i + 1, nextElement, group);
+  }
+
+  public static ErrorMessageFactory shouldBeSortedAccordingToGivenComparator(int i, Object element, Object nextElement,
+                                                                             Object group, Comparator<?> comparator) {
+    return new ShouldBeSorted(
+        "%ngroup is not sorted according to %s comparator because element %s:%n <%s>%nis not less or equal than element %s:%n <%s>%ngroup was:%n <%s>",
+        comparator, i, element, i + 1, nextElement, group);
+  }
+
   public static ErrorMessageFactory shouldHaveMutuallyComparableElements(Object actual) {
     return new ShouldBeSorted("%nsome elements are not mutually comparable in group:%n<%s>", actual);
   }
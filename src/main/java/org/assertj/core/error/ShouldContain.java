@@ -56,6 +56,19 @@ public class ShouldContain extends BasicErrorMessageFactory {
     return shouldContain(actual, expected, notFound, StandardComparisonStrategy.instance());
   }
 
+  /**
+   * Creates a new <code>{@link ShouldContain}</code> for a stream whose elements are visited without being kept, the
+   * stream is thus not represented.
+   * @param expected values expected to be in the stream.
+   * @param notFound the values in {@code expected} not found in the stream.
+   * @param comparisonStrategy the {@link ComparisonStrategy} used to evaluate assertion.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory streamShouldContain(Object expected, Object notFound,
+                                                        ComparisonStrategy comparisonStrategy) {
+    return new ShouldContain(expected, notFound, comparisonStrategy);
+  }
+
   public static ErrorMessageFactory directoryShouldContain(File actual, List<String> directoryContent, String filterDescription) {
     return new ShouldContain(actual, directoryContent, filterDescription);
   }
@@ -72,6 +85,11 @@ public class ShouldContain extends BasicErrorMessageFactory {
           comparisonStrategy);
   }
 
+  private ShouldContain(Object expected, Object notFound, ComparisonStrategy comparisonStrategy) {
+    super("%nExpecting Stream under test to contain:%n <%s>%nbut could not find the following element(s):%n <%s>%n%s",
+          expected, notFound, comparisonStrategy);
+  }
+
   private ShouldContain(Object actual, List<String> directoryContent, String filterDescription) {
     // not passing directoryContent and filterDescription as parameter to avoid AssertJ default String formatting
     super("%nExpecting directory:%n" +
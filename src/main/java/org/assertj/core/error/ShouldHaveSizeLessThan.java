@@ -33,6 +33,26 @@ public class ShouldHaveSizeLessThan extends BasicErrorMessageFactory {
     return new ShouldHaveSizeLessThan(actual, actualSize, expectedMaxSize);
   }
 
+  /**
+   * Creates a new <code>{@link ShouldHaveSizeLessThan}</code> when only a part of {@code actual} has been visited, its size
+   * is thus not known.
+   * @param actual the actual value in the failed assertion.
+   * @param visitedSize the number of elements of {@code actual} visited.
+   * @param expectedMaxSize the expected size.
+   * @return the created {@code ErrorMessageFactory}.
+   */
+  public static ErrorMessageFactory shouldHaveSizeLessThanButHadAtLeast(Object actual, int visitedSize, int expectedMaxSize) {
+    return new ShouldHaveSizeLessThan(format("%n" +
+                                             "Expecting size of:%n" +
+                                             "  <%%s>%n" +
+                                             "to be less than %s but had at least %s elements", expectedMaxSize, visitedSize),
+                                      actual);
+  }
+
+  private ShouldHaveSizeLessThan(String format, Object actual) {
+    super(format, actual);
+  }
+
   private ShouldHaveSizeLessThan(Object actual, int actualSize, int expectedSize) {
     // format the sizes in a standard way, otherwise if we use (for ex) an Hexadecimal representation
     // it will format sizes in hexadecimal while we only want actual to be formatted in hexadecimal
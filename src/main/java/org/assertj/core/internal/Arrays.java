@@ -13,6 +13,7 @@
 package org.assertj.core.internal;
 
 import static java.lang.reflect.Array.getLength;
+import static java.util.Objects.deepEquals;
 import static java.util.Objects.requireNonNull;
 import static org.assertj.core.error.ConditionAndGroupGenericParameterTypeShouldBeTheSame.shouldBeSameGenericBetweenIterableAndCondition;
 import static org.assertj.core.error.ElementsShouldBe.elementsShouldBe;
@@ -68,7 +69,12 @@ import static org.assertj.core.internal.CommonValidations.checkSizeLessThanOrEqu
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.diffInAnyOrder;
+import static org.assertj.core.internal.PrimitiveArrayElements.canBeComparedUnboxed;
+import static org.assertj.core.internal.PrimitiveArrayElements.elementsOf;
+import static org.assertj.core.internal.SequenceSearch.searchFor;
 import static org.assertj.core.util.ArrayWrapperList.wrap;
+import static org.assertj.core.util.Arrays.asObjectArray;
 import static org.assertj.core.util.Arrays.isArray;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
@@ -196,10 +202,18 @@ public class Arrays {
   public void assertContains(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
     Set<Object> notFound = new LinkedHashSet<>();
-    int valueCount = sizeOf(values);
-    for (int i = 0; i < valueCount; i++) {
-      Object value = Array.get(values, i);
-      if (!arrayContains(actual, value)) notFound.add(value);
+    if (canBeComparedUnboxed(actual, values, comparisonStrategy)) {
+      PrimitiveArrayElements valueElements = elementsOf(values);
+      int[] occurrences = valueElements.occurrencesIn(elementsOf(actual));
+      for (int i = 0; i < occurrences.length; i++) {
+        if (occurrences[i] == 0) notFound.add(valueElements.elementAt(i));
+      }
+    } else {
+      int valueCount = sizeOf(values);
+      for (int i = 0; i < valueCount; i++) {
+        Object value = Array.get(values, i);
+        if (!arrayContains(actual, value)) notFound.add(value);
+      }
     }
     if (!notFound.isEmpty())
       throw failures.failure(info, shouldContain(actual, values, notFound, comparisonStrategy));
@@ -242,13 +256,25 @@ public class Arrays {
 
   void assertContainsOnly(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterableRemoves(notExpected, value);
-        iterableRemoves(notFound, value);
+    List<Object> notExpected;
+    List<Object> notFound;
+    if (canBeComparedUnboxed(actual, values, comparisonStrategy)) {
+      PrimitiveArrayElements actualElements = elementsOf(actual);
+      PrimitiveArrayElements valueElements = elementsOf(values);
+      notExpected = actualElements.elementsNotIn(valueElements);
+      notFound = new ArrayList<>();
+      int[] occurrences = valueElements.occurrencesIn(actualElements);
+      for (int i = 0; i < occurrences.length; i++) {
+        if (occurrences[i] == 0) notFound.add(valueElements.elementAt(i));
+      }
+    } else {
+      notExpected = asList(actual);
+      notFound = asList(values);
+      for (Object value : asList(values)) {
+        if (iterableContains(notExpected, value)) {
+          iterableRemoves(notExpected, value);
+          iterableRemoves(notFound, value);
+        }
       }
     }
 
@@ -275,6 +301,8 @@ public class Arrays {
     if (commonChecks(info, actual, values)) return;
     assertIsArray(info, actual);
     assertIsArray(info, values);
+    // java.util.Arrays.equals compares primitive elements in bulk like their boxed equals does
+    if (canBeComparedUnboxed(actual, values, comparisonStrategy) && deepEquals(actual, values)) return;
 
     List<Object> actualAsList = asList(actual);
     IterableDiff diff = diff(actualAsList, asList(values), comparisonStrategy);
@@ -296,25 +324,20 @@ public class Arrays {
 
   void assertContainsExactlyInAnyOrder(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values)) return;
-    List<Object> notExpected = asList(actual);
-    List<Object> notFound = asList(values);
-
-    for (Object value : asList(values)) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    IterableDiff diff = diffInAnyOrder(asList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
     throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+                           shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
   }
 
   void assertContainsOnlyOnce(AssertionInfo info, Failures failures, Object actual, Object values) {
     if (commonChecks(info, actual, values))
       return;
+    if (canBeComparedUnboxed(actual, values, comparisonStrategy)) {
+      assertContainsOnlyOnceUnboxed(info, failures, actual, values);
+      return;
+    }
     Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(asList(actual));
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
@@ -330,12 +353,21 @@ public class Arrays {
     // assertion succeeded
   }
 
-  private boolean iterableContains(Iterable<?> actual, Object value) {
-    return comparisonStrategy.iterableContains(actual, value);
+  private void assertContainsOnlyOnceUnboxed(AssertionInfo info, Failures failures, Object actual, Object values) {
+    PrimitiveArrayElements valueElements = elementsOf(values);
+    int[] occurrences = valueElements.occurrencesIn(elementsOf(actual));
+    Set<Object> notFound = new LinkedHashSet<>();
+    Set<Object> notOnlyOnce = new LinkedHashSet<>();
+    for (int i = 0; i < occurrences.length; i++) {
+      if (occurrences[i] == 0) notFound.add(valueElements.elementAt(i));
+      else if (occurrences[i] > 1) notOnlyOnce.add(valueElements.elementAt(i));
+    }
+    if (!notFound.isEmpty() || !notOnlyOnce.isEmpty())
+      throw failures.failure(info, shouldContainsOnlyOnce(actual, values, notFound, notOnlyOnce, comparisonStrategy));
   }
 
-  private void iterablesRemoveFirst(Collection<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
+  private boolean iterableContains(Iterable<?> actual, Object value) {
+    return comparisonStrategy.iterableContains(actual, value);
   }
 
   private void iterableRemoves(Collection<?> actual, Object value) {
@@ -344,42 +376,32 @@ public class Arrays {
 
   void assertContainsSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) return;
-    }
-    throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
+    if (indexOfSequence(actual, sequence) == -1)
+      throw failures.failure(info, shouldContainSequence(actual, sequence, comparisonStrategy));
   }
 
   void assertDoesNotContainSequence(AssertionInfo info, Failures failures, Object actual, Object sequence) {
     if (commonChecks(info, actual, sequence)) return;
 
-    // look for given sequence, stop check when there are not enough elements remaining in actual to contain sequence
-    int lastIndexWhereSequenceCanBeFound = sizeOf(actual) - sizeOf(sequence);
-    for (int actualIndex = 0; actualIndex <= lastIndexWhereSequenceCanBeFound; actualIndex++) {
-      if (containsSequenceAtGivenIndex(actualIndex, actual, sequence)) {
-        throw failures.failure(info, shouldNotContainSequence(actual, sequence, actualIndex, comparisonStrategy));
-      }
-    }
+    int sequenceStartIndex = indexOfSequence(actual, sequence);
+    if (sequenceStartIndex != -1)
+      throw failures.failure(info, shouldNotContainSequence(actual, sequence, sequenceStartIndex, comparisonStrategy));
   }
 
   /**
-   * Return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
+   * Returns the index where the given sequence starts in actualArray or -1 if actualArray does not contain it.
    *
-   * @param actualStartIndex the index to start looking for sequence in actualArray
    * @param actualArray the actual array to search sequence in
    * @param sequence the sequence to look for
-   * @return true if actualArray contains exactly the given sequence at given starting index, false otherwise.
+   * @return the index where the given sequence starts in actualArray or -1 if actualArray does not contain it.
    */
-  private boolean containsSequenceAtGivenIndex(int actualStartIndex, Object actualArray, Object sequence) {
-    int sequenceSize = sizeOf(sequence);
-    for (int i = 0; i < sequenceSize; i++) {
-      if (areEqual(Array.get(sequence, i), Array.get(actualArray, i + actualStartIndex)))
-        continue;
-      return false;
+  private int indexOfSequence(Object actualArray, Object sequence) {
+    SequenceSearch sequenceSearch = searchFor(asObjectArray(sequence), comparisonStrategy);
+    int actualSize = sizeOf(actualArray);
+    for (int i = 0; i < actualSize; i++) {
+      if (sequenceSearch.visit(Array.get(actualArray, i))) return sequenceSearch.sequenceStartIndex();
     }
-    return true;
+    return -1;
   }
 
   void assertContainsSubsequence(AssertionInfo info, Failures failures, Object actual, Object subsequence) {
@@ -460,10 +482,18 @@ public class Arrays {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, array);
     Set<Object> found = new LinkedHashSet<>();
-    int valuesSize = sizeOf(values);
-    for (int i = 0; i < valuesSize; i++) {
-      Object value = Array.get(values, i);
-      if (arrayContains(array, value)) found.add(value);
+    if (canBeComparedUnboxed(array, values, comparisonStrategy)) {
+      PrimitiveArrayElements valueElements = elementsOf(values);
+      int[] occurrences = valueElements.occurrencesIn(elementsOf(array));
+      for (int i = 0; i < occurrences.length; i++) {
+        if (occurrences[i] > 0) found.add(valueElements.elementAt(i));
+      }
+    } else {
+      int valuesSize = sizeOf(values);
+      for (int i = 0; i < valuesSize; i++) {
+        Object value = Array.get(values, i);
+        if (arrayContains(array, value)) found.add(value);
+      }
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(array, values, found, comparisonStrategy));
   }
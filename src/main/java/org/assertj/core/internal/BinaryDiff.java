@@ -12,10 +12,13 @@
  */
 package org.assertj.core.internal;
 
-import java.io.ByteArrayInputStream;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -24,12 +27,18 @@ import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Compares the binary content of two inputStreams/paths.
+ * <p>
+ * Contents are compared by blocks: streams and files are read in reusable buffers, blocks are compared eight bytes at a
+ * time until the first different byte.
  * 
  * @author Olivier Michallat
  */
 @VisibleForTesting
 public class BinaryDiff {
 
+  private static final int BUFFER_SIZE = 64 * 1024;
+  private static final int EOF = -1;
+
   @VisibleForTesting
   public BinaryDiffResult diff(File actual, byte[] expected) throws IOException {
     return diff(actual.toPath(), expected);
@@ -42,22 +51,94 @@ public class BinaryDiff {
     }
   }
 
+  @VisibleForTesting
+  public BinaryDiffResult diff(File actual, File expected) throws IOException {
+    return diff(actual.toPath(), expected.toPath());
+  }
+
+  @VisibleForTesting
+  public BinaryDiffResult diff(Path actual, Path expected) throws IOException {
+    // small files do not need the whole buffers, one more byte tells that the end of the files is reached
+    int bufferSize = (int) min(BUFFER_SIZE, max(Files.size(actual), Files.size(expected)) + 1);
+    try (InputStream actualStream = Files.newInputStream(actual);
+        InputStream expectedStream = Files.newInputStream(expected)) {
+      return diff(actualStream, expectedStream, bufferSize);
+    }
+  }
+
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, byte[] expected) throws IOException {
-    try (InputStream expectedStream = new ByteArrayInputStream(expected)) {
-		  return diff(actualStream, expectedStream);
-	  }
+    byte[] actualBuffer = new byte[min(BUFFER_SIZE, expected.length + 1)];
+    for (int position = 0;; position += actualBuffer.length) {
+      int actualLength = fill(actualBuffer, actualStream);
+      int expectedLength = min(actualBuffer.length, expected.length - position);
+      BinaryDiffResult result = diff(position, ByteBuffer.wrap(actualBuffer, 0, actualLength),
+                                     ByteBuffer.wrap(expected, position, expectedLength).slice());
+      if (result != null) return result;
+    }
   }
 
   @VisibleForTesting
   public BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream) throws IOException {
+    return diff(actualStream, expectedStream, BUFFER_SIZE);
+  }
+
+  private static BinaryDiffResult diff(InputStream actualStream, InputStream expectedStream,
+                                       int bufferSize) throws IOException {
+    byte[] actualBuffer = new byte[bufferSize];
+    byte[] expectedBuffer = new byte[bufferSize];
+    for (int position = 0;; position += bufferSize) {
+      int actualLength = fill(actualBuffer, actualStream);
+      int expectedLength = fill(expectedBuffer, expectedStream);
+      BinaryDiffResult result = diff(position, ByteBuffer.wrap(actualBuffer, 0, actualLength),
+                                     ByteBuffer.wrap(expectedBuffer, 0, expectedLength));
+      if (result != null) return result;
+    }
+  }
+
+  // compares blocks read at the given position, returns null if they are equal and full so that the next blocks must be read
+  private static BinaryDiffResult diff(int position, ByteBuffer actualBlock, ByteBuffer expectedBlock) {
+    int actualLength = actualBlock.remaining();
+    int expectedLength = expectedBlock.remaining();
+    int commonLength = min(actualLength, expectedLength);
+    int mismatch = mismatch(actualBlock, expectedBlock, commonLength);
+    if (mismatch >= 0) return diffResult(position + mismatch, expectedBlock.get(mismatch), actualBlock.get(mismatch));
+    if (actualLength < expectedLength) return diffResult(position + commonLength, expectedBlock.get(commonLength), EOF);
+    if (expectedLength < actualLength) return new BinaryDiffResult(position + commonLength, EOF, actualBlock.get(commonLength) & 0xFF);
+    // blocks are only partially filled at the end of the contents
+    if (actualLength < actualBlock.capacity()) return BinaryDiffResult.noDiff();
+    return null;
+  }
+
+  // returns the index of the first different byte in the given buffers, or -1 if their first length bytes are equal
+  private static int mismatch(ByteBuffer actual, ByteBuffer expected, int length) {
     int index = 0;
-    while (true) {
-      int actual = actualStream.read();
-      int expected = expectedStream.read();
-      if (actual == -1 && expected == -1) return BinaryDiffResult.noDiff(); // reached end of both streams
-      if (actual != expected) return new BinaryDiffResult(index, expected, actual);
-      index += 1;
+    // compare eight bytes at a time, the byte order does not matter to know whether they are equal
+    for (; index <= length - Long.BYTES; index += Long.BYTES) {
+      if (actual.getLong(index) != expected.getLong(index)) break;
+    }
+    for (; index < length; index++) {
+      if (actual.get(index) != expected.get(index)) return index;
+    }
+    return -1;
+  }
+
+  // reads the stream until the buffer is full or the end of the stream is reached
+  private static int fill(byte[] buffer, InputStream stream) throws IOException {
+    int length = 0;
+    while (length < buffer.length) {
+      int readLength = stream.read(buffer, length, buffer.length - length);
+      if (readLength == EOF) break;
+      length += readLength;
     }
+    return length;
+  }
+
+  private static BinaryDiffResult diffResult(int offset, byte expected, int actual) {
+    return new BinaryDiffResult(offset, expected & 0xFF, actual);
+  }
+
+  private static BinaryDiffResult diffResult(int offset, byte expected, byte actual) {
+    return new BinaryDiffResult(offset, expected & 0xFF, actual & 0xFF);
   }
 }
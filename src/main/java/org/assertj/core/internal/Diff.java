@@ -13,7 +13,9 @@
 package org.assertj.core.internal;
 
 import static java.nio.file.Files.newBufferedReader;
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.util.Closeables.closeQuietly;
 
 import java.io.BufferedReader;
@@ -28,13 +30,20 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.assertj.core.util.VisibleForTesting;
+import org.assertj.core.util.diff.ChangeDelta;
+import org.assertj.core.util.diff.Chunk;
+import org.assertj.core.util.diff.DeleteDelta;
 import org.assertj.core.util.diff.Delta;
 import org.assertj.core.util.diff.DiffUtils;
+import org.assertj.core.util.diff.InsertDelta;
 import org.assertj.core.util.diff.Patch;
 
 
 /**
  * Compares the contents of two files, inputStreams or paths.
+ * <p>
+ * The contents are compared line by line as they are read, equal contents are thus compared without being kept in
+ * memory. Only the lines from the first different one are diffed.
  * 
  * @author David DIDIER
  * @author Alex Ruiz
@@ -87,22 +96,53 @@ public class Diff {
 
   private List<Delta<String>> diff(BufferedReader actual, BufferedReader expected) throws IOException {
     try {
-      List<String> actualLines = linesFromBufferedReader(actual);
-      List<String> expectedLines = linesFromBufferedReader(expected);
-      
+      // lines are compared as they are read, only the lines from the first different one are kept to be diffed
+      int commonLinesCount = 0;
+      String actualLine = actual.readLine();
+      String expectedLine = expected.readLine();
+      while (actualLine != null && actualLine.equals(expectedLine)) {
+        commonLinesCount++;
+        actualLine = actual.readLine();
+        expectedLine = expected.readLine();
+      }
+      if (actualLine == null && expectedLine == null) return emptyList();
+      List<String> actualLines = linesFromBufferedReader(actualLine, actual);
+      List<String> expectedLines = linesFromBufferedReader(expectedLine, expected);
+
       Patch<String> patch = DiffUtils.diff(expectedLines, actualLines);
-      return unmodifiableList(patch.getDeltas());
+      return unmodifiableList(shift(patch.getDeltas(), commonLinesCount));
     } finally {
       closeQuietly(actual, expected);
     }
   }
 
-  private List<String> linesFromBufferedReader(BufferedReader reader) throws IOException {
-    String line;
+  private List<String> linesFromBufferedReader(String firstLine, BufferedReader reader) throws IOException {
     List<String> lines = new ArrayList<>();
+    if (firstLine == null) return lines;
+    lines.add(firstLine);
+    String line;
     while ((line = reader.readLine()) != null) {
       lines.add(line);
     }
     return lines;
   }
+
+  // deltas positions start after the common lines that were not diffed
+  private static List<Delta<String>> shift(List<Delta<String>> deltas, int offset) {
+    if (offset == 0) return deltas;
+    return deltas.stream().map(delta -> shift(delta, offset)).collect(toList());
+  }
+
+  private static Delta<String> shift(Delta<String> delta, int offset) {
+    Chunk<String> original = new Chunk<>(delta.getOriginal().getPosition() + offset, delta.getOriginal().getLines());
+    Chunk<String> revised = new Chunk<>(delta.getRevised().getPosition() + offset, delta.getRevised().getLines());
+    switch (delta.getType()) {
+    case CHANGE:
+      return new ChangeDelta<>(original, revised);
+    case DELETE:
+      return new DeleteDelta<>(original, revised);
+    default:
+      return new InsertDelta<>(original, revised);
+    }
+  }
 }
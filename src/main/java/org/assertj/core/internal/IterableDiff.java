@@ -12,11 +12,16 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.reverse;
 import static java.util.Collections.unmodifiableList;
+import static org.assertj.core.internal.StandardComparisonStrategy.isHashable;
 import static org.assertj.core.util.Lists.newArrayList;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 
 // immutable
 class IterableDiff {
@@ -34,10 +39,29 @@ class IterableDiff {
     this.missing = subtract(expected, actual);
   }
 
+  private IterableDiff(ComparisonStrategy comparisonStrategy) {
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
   static <T> IterableDiff diff(Iterable<T> actual, Iterable<T> expected, ComparisonStrategy comparisonStrategy) {
     return new IterableDiff(actual, expected, comparisonStrategy);
   }
 
+  /**
+   * Pairs each expected value with an actual element equal to it, compared as {@code actualElement.equals(value)}: the
+   * actual elements left are unexpected and the expected values left are missing.
+   *
+   * @param actual the actual elements
+   * @param expected the expected values
+   * @param comparisonStrategy the strategy comparing the actual elements to the expected values
+   * @return the unpaired elements
+   */
+  static IterableDiff diffInAnyOrder(List<?> actual, List<?> expected, ComparisonStrategy comparisonStrategy) {
+    IterableDiff diff = new IterableDiff(comparisonStrategy);
+    diff.pair(actual, expected);
+    return diff;
+  }
+
   boolean differencesFound() {
     return !unexpected.isEmpty() || !missing.isEmpty();
   }
@@ -51,6 +75,7 @@ class IterableDiff {
    * @return the list of elements in the first iterable that are not in the second, i.e. first - second
    */
   private <T> List<Object> subtract(Iterable<T> first, Iterable<T> second) {
+    if (canBeHashed(first) && canBeHashed(second)) return countingSubtract(first, second);
     List<Object> missingInFirst = new ArrayList<>();
     // use a copy to deal correctly with potential duplicates
     List<T> copyOfSecond = newArrayList(second);
@@ -65,6 +90,83 @@ class IterableDiff {
     return unmodifiableList(missingInFirst);
   }
 
+  /**
+   * Same as {@link #subtract(Iterable, Iterable)} in linear time: equal elements have the same hash code with the standard
+   * comparison strategy, the elements of the first iterable can thus be counted in a hash map, each element of the second
+   * iterable then consumes one of the count of its equal elements. The elements of the first iterable are the keys so
+   * that they are compared as {@code elementInSecond.equals(elementInFirst)} like in the linear search.
+   */
+  private static <T> List<Object> countingSubtract(Iterable<T> first, Iterable<T> second) {
+    Map<Object, Integer> matchesInSecond = new HashMap<>();
+    for (T elementInFirst : first) {
+      matchesInSecond.putIfAbsent(elementInFirst, 0);
+    }
+    for (T elementInSecond : second) {
+      matchesInSecond.computeIfPresent(elementInSecond, (elementInFirst, count) -> count + 1);
+    }
+    List<Object> missingInFirst = new ArrayList<>();
+    for (Object elementInFirst : first) {
+      int count = matchesInSecond.get(elementInFirst);
+      if (count == 0) missingInFirst.add(elementInFirst);
+      else matchesInSecond.put(elementInFirst, count - 1);
+    }
+    return unmodifiableList(missingInFirst);
+  }
+
+  private void pair(List<?> actual, List<?> expected) {
+    if (canBeHashed(actual) && canBeHashed(expected)) {
+      countingPair(actual, expected);
+      return;
+    }
+    List<Object> notExpected = newArrayList(actual);
+    List<Object> notFound = newArrayList(expected);
+    for (Object value : expected) {
+      if (iterableContains(notExpected, value)) {
+        iterablesRemoveFirst(notExpected, value);
+        iterablesRemoveFirst(notFound, value);
+      }
+    }
+    unexpected = unmodifiableList(notExpected);
+    missing = unmodifiableList(notFound);
+  }
+
+  /**
+   * Same as {@link #pair(List, List)} in linear time: the expected values are counted in a hash map, each actual element
+   * then consumes one of the count of the values equal to it. The values are paired in encounter order, the last ones of
+   * each count left are thus the missing ones.
+   */
+  private void countingPair(List<?> actual, List<?> expected) {
+    Map<Object, Integer> unpairedValues = new HashMap<>();
+    for (Object value : expected) {
+      unpairedValues.merge(value, 1, Integer::sum);
+    }
+    List<Object> notExpected = new ArrayList<>();
+    for (Object element : actual) {
+      Integer count = unpairedValues.get(element);
+      if (count == null || count == 0) notExpected.add(element);
+      else unpairedValues.put(element, count - 1);
+    }
+    List<Object> notFound = new ArrayList<>();
+    for (ListIterator<?> values = expected.listIterator(expected.size()); values.hasPrevious();) {
+      Object value = values.previous();
+      int count = unpairedValues.get(value);
+      if (count == 0) continue;
+      notFound.add(value);
+      unpairedValues.put(value, count - 1);
+    }
+    reverse(notFound);
+    unexpected = unmodifiableList(notExpected);
+    missing = unmodifiableList(notFound);
+  }
+
+  private boolean canBeHashed(Iterable<?> iterable) {
+    if (comparisonStrategy != StandardComparisonStrategy.instance()) return false;
+    for (Object element : iterable) {
+      if (!isHashable(element)) return false;
+    }
+    return true;
+  }
+
   private boolean iterableContains(Iterable<?> actual, Object value) {
     return comparisonStrategy.iterableContains(actual, value);
   }
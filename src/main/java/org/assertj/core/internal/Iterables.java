@@ -14,6 +14,7 @@ package org.assertj.core.internal;
 
 import static java.util.Arrays.asList;
 import static java.util.Arrays.stream;
+import static java.util.Collections.newSetFromMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toCollection;
 import static java.util.stream.Collectors.toList;
@@ -74,6 +75,10 @@ import static org.assertj.core.internal.ErrorMessages.emptySubsequence;
 import static org.assertj.core.internal.ErrorMessages.nullSequence;
 import static org.assertj.core.internal.ErrorMessages.nullSubsequence;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.diffInAnyOrder;
+import static org.assertj.core.internal.SequenceSearch.searchFor;
+import static org.assertj.core.internal.SortedElements.sortedElementsOf;
+import static org.assertj.core.internal.StandardComparisonStrategy.isHashable;
 import static org.assertj.core.util.Arrays.prepend;
 import static org.assertj.core.util.IterableUtil.isNullOrEmpty;
 import static org.assertj.core.util.IterableUtil.sizeOf;
@@ -82,10 +87,13 @@ import static org.assertj.core.util.Streams.stream;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BiConsumer;
@@ -112,6 +120,8 @@ import org.assertj.core.util.VisibleForTesting;
 public class Iterables {
 
   private static final Iterables INSTANCE = new Iterables();
+  // below this number of lookups, indexing the searched elements costs more than linear searches
+  private static final int INDEXED_LOOKUPS_THRESHOLD = 4;
   private final ComparisonStrategy comparisonStrategy;
   @VisibleForTesting
   Failures failures = Failures.instance();
@@ -339,7 +349,8 @@ public class Iterables {
   }
 
   private void assertIterableContainsGivenValues(Iterable<?> actual, Object[] values, AssertionInfo info) {
-    Set<Object> notFound = stream(values).filter(value -> !iterableContains(actual, value))
+    Predicate<Object> actualContains = containedIn(actual, asList(values));
+    Set<Object> notFound = stream(values).filter(actualContains.negate())
                                          .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty())
       return;
@@ -350,12 +361,72 @@ public class Iterables {
     return comparisonStrategy.iterableContains(actual, value);
   }
 
-  private void iterablesRemoveFirst(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterablesRemoveFirst(actual, value);
+  /**
+   * Returns a predicate telling whether one of the given values is in the given iterable according to the comparison
+   * strategy.
+   * <p>
+   * Looking up many values with linear searches is O(N.M), instead:
+   * <ul>
+   * <li>with the standard comparison strategy, equality relies on equals/hashCode so the iterable elements are looked up
+   * in a hash map of the values built once, like the linear search this calls {@code element.equals(value)} which matters
+   * for asymmetric equals implementations</li>
+   * <li>with a comparator based strategy, values are looked up with a binary search in the iterable elements sorted once
+   * with the comparator, as the comparator may not define a total order the values not found are confirmed with the
+   * linear search unless the comparator consistently orders the elements and the looked up values sorted together</li>
+   * </ul>
+   */
+  private Predicate<Object> containedIn(Iterable<?> iterable, List<?> lookedUpValues) {
+    Predicate<Object> linearSearch = value -> iterableContains(iterable, value);
+    if (lookedUpValues.size() < INDEXED_LOOKUPS_THRESHOLD) return linearSearch;
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+      return sortedElementsOf(iterable, comparator).map(sortedElements -> binarySearch(sortedElements, lookedUpValues,
+                                                                                       linearSearch))
+                                                   .orElse(linearSearch);
+    }
+    if (comparisonStrategy != StandardComparisonStrategy.instance()) return linearSearch;
+    // values equal to each other share the same key, the elements are the keys of the lookups
+    Map<Object, List<Object>> hashedValues = new HashMap<>();
+    for (Object value : lookedUpValues) {
+      if (isHashable(value)) hashedValues.computeIfAbsent(value, key -> new ArrayList<>()).add(value);
+    }
+    Set<Object> foundValues = newSetFromMap(new IdentityHashMap<>());
+    for (Object element : iterable) {
+      if (!isHashable(element)) return linearSearch;
+      List<Object> equalValues = hashedValues.get(element);
+      if (equalValues != null) foundValues.addAll(equalValues);
+    }
+    return value -> isHashable(value) ? foundValues.contains(value) : linearSearch.test(value);
   }
 
-  private void iterablesRemove(Iterable<?> actual, Object value) {
-    comparisonStrategy.iterableRemoves(actual, value);
+  /**
+   * Returns a predicate telling whether one of the given values is equal to one of the given elements according to the
+   * comparison strategy.
+   * <p>
+   * Unlike {@link #containedIn(Iterable, List)}, the values are compared to the elements, with the standard comparison
+   * strategy this calls {@code value.equals(element)}, the elements being hashed in order to look up the values.
+   */
+  private Predicate<Object> equalToOneOf(List<?> elements, List<?> lookedUpValues) {
+    Predicate<Object> linearSearch = value -> elements.stream().anyMatch(element -> areEqual(value, element));
+    if (lookedUpValues.size() < INDEXED_LOOKUPS_THRESHOLD) return linearSearch;
+    if (comparisonStrategy instanceof ComparatorBasedComparisonStrategy) {
+      Comparator<?> comparator = ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator();
+      return sortedElementsOf(elements, comparator).map(sortedElements -> binarySearch(sortedElements, lookedUpValues,
+                                                                                       linearSearch))
+                                                   .orElse(linearSearch);
+    }
+    if (comparisonStrategy != StandardComparisonStrategy.instance()) return linearSearch;
+    if (!elements.stream().allMatch(StandardComparisonStrategy::isHashable)) return linearSearch;
+    // HashSet.contains calls value.equals(element)
+    Set<Object> hashedElements = new HashSet<>(elements);
+    return value -> isHashable(value) ? hashedElements.contains(value) : linearSearch.test(value);
+  }
+
+  private static Predicate<Object> binarySearch(SortedElements sortedElements, List<?> lookedUpValues,
+                                                Predicate<Object> linearSearch) {
+    if (sortedElements.consistentlyOrders(lookedUpValues)) return sortedElements::contains;
+    // a value found by the binary search is equal to an element but a value not found might be equal to one too
+    return value -> sortedElements.contains(value) || linearSearch.test(value);
   }
 
   /**
@@ -374,19 +445,15 @@ public class Iterables {
     final List<?> actualAsList = newArrayList(actual);
     if (commonCheckThatIterableAssertionSucceeds(info, actualAsList, expectedValues)) return;
 
-    // after the for loop, unexpected = expectedValues - actual
-    List<Object> unexpectedValues = newArrayList(actualAsList);
-    // after the for loop, missing = actual - expectedValues
-    List<Object> missingValues = newArrayList(expectedValues);
-    for (Object expected : expectedValues) {
-      if (iterableContains(actualAsList, expected)) {
-        // since expected was found in actual:
-        // -- it does not belong to the missing elements
-        iterablesRemove(missingValues, expected);
-        // -- it does not belong to the unexpected elements
-        iterablesRemove(unexpectedValues, expected);
-      }
-    }
+    // unexpected = actual - expectedValues
+    Predicate<Object> equalToAnExpectedValue = equalToOneOf(asList(expectedValues), actualAsList);
+    List<Object> unexpectedValues = actualAsList.stream()
+                                                .filter(equalToAnExpectedValue.negate())
+                                                .collect(toList());
+    // missing = expectedValues - actual
+    Predicate<Object> actualContains = containedIn(actualAsList, asList(expectedValues));
+    List<Object> missingValues = stream(expectedValues).filter(actualContains.negate())
+                                                       .collect(toList());
 
     if (!unexpectedValues.isEmpty() || !missingValues.isEmpty()) {
       throw failures.failure(info, shouldContainOnly(actualAsList, expectedValues,
@@ -413,10 +480,12 @@ public class Iterables {
     Set<Object> notFound = new LinkedHashSet<>();
     Set<Object> notOnlyOnce = new LinkedHashSet<>();
     Iterable<?> actualDuplicates = comparisonStrategy.duplicatesFrom(actual);
+    Predicate<Object> actualContains = containedIn(actual, asList(values));
+    Predicate<Object> actualDuplicatesContain = containedIn(actualDuplicates, asList(values));
     for (Object expectedOnlyOnce : values) {
-      if (!iterableContains(actual, expectedOnlyOnce)) {
+      if (!actualContains.test(expectedOnlyOnce)) {
         notFound.add(expectedOnlyOnce);
-      } else if (iterableContains(actualDuplicates, expectedOnlyOnce)) {
+      } else if (actualDuplicatesContain.test(expectedOnlyOnce)) {
         notOnlyOnce.add(expectedOnlyOnce);
       }
     }
@@ -459,45 +528,18 @@ public class Iterables {
     // perform the checks that would have been done in commonCheckThatIterableAssertionSucceeds but do them explicitly without
     // having to create a new iterator on actual - which would break if actual were only singly-traversable.
     checkNotNullIterables(info, actual, sequence);
-    // store the elements from actual that have been visited (because we don't know we can look ahead - the 'actual'
-    // might be singly-traversable) in a fixed-length LIFO having what is in effect a sliding window.
-    // So we store each element and slide for each new element until a match is found or until the 'actual' is
-    // exhausted. Of course if 'actual' really is infinite then this could take a while :-D
     final Iterator<?> actualIterator = actual.iterator();
     if (!actualIterator.hasNext() && sequence.length == 0) return;
     failIfEmptySinceActualIsNotEmpty(sequence);
-    // we only store sequence.length entries from actual in the LIFO, no need for more.
-    Lifo lifo = new Lifo(sequence.length);
+    // 'actual' might be singly-traversable, the search visits each element once without going back to previous ones.
+    // Of course if 'actual' really is infinite then this could take a while :-D
+    SequenceSearch sequenceSearch = searchFor(sequence, comparisonStrategy);
     while (actualIterator.hasNext()) {
-      lifo.add(actualIterator.next());
-      if (lifo.matchesExactly(sequence)) return;
+      if (sequenceSearch.visit(actualIterator.next())) return;
     }
     throw actualDoesNotContainSequence(info, actual, sequence);
   }
 
-  private class Lifo {
-    private int maxSize;
-    private LinkedList<Object> stack;
-
-    Lifo(int maxSize) {
-      this.maxSize = maxSize;
-      stack = new LinkedList<>();
-    }
-
-    void add(final Object element) {
-      if (stack.size() == maxSize) stack.removeFirst();
-      stack.addLast(element);
-    }
-
-    boolean matchesExactly(Object[] sequence) {
-      if (stack.size() != sequence.length) return false;
-      for (int i = 0; i < sequence.length; i++) {
-        if (!areEqual(stack.get(i), sequence[i])) return false;
-      }
-      return true;
-    }
-  }
-
   /**
    * Verifies that the given <code>{@link Iterable}</code> does not contain the given sequence of objects in order.
    *
@@ -513,12 +555,10 @@ public class Iterables {
     requireNonNull(sequence, nullSequence());
     checkIsNotEmptySequence(sequence);
     assertNotNull(info, actual);
-    // check for elements in values that are missing in actual.
-    List<?> actualAsList = newArrayList(actual);
-    for (int index = 0; index < actualAsList.size(); index++) {
-      // look for given sequence in actual starting from current index (i)
-      if (containsSequenceAtGivenIndex(actualAsList, sequence, index)) {
-        throw actualDoesContainSequence(info, actual, sequence, index);
+    SequenceSearch sequenceSearch = searchFor(sequence, comparisonStrategy);
+    for (Object actualElement : actual) {
+      if (sequenceSearch.visit(actualElement)) {
+        throw actualDoesContainSequence(info, actual, sequence, sequenceSearch.sequenceStartIndex());
       }
     }
   }
@@ -602,28 +642,14 @@ public class Iterables {
   public void assertIsSubsetOf(AssertionInfo info, Iterable<?> actual, Iterable<?> values) {
     assertNotNull(info, actual);
     checkIterableIsNotNull(values);
-    List<Object> extra = stream(actual).filter(actualElement -> !iterableContains(values, actualElement))
-                                       .collect(toList());
+    List<?> actualAsList = newArrayList(actual);
+    Predicate<Object> valuesContain = containedIn(values, actualAsList);
+    List<Object> extra = actualAsList.stream()
+                                     .filter(valuesContain.negate())
+                                     .collect(toList());
     if (extra.size() > 0) throw failures.failure(info, shouldBeSubsetOf(actual, values, extra, comparisonStrategy));
   }
 
-  /**
-   * Return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   *
-   * @param actualAsList the list to look sequence in
-   * @param sequence the sequence to look for
-   * @param startingIndex the index of actual list at which we start looking for sequence.
-   * @return true if actualAsList contains exactly the given sequence at given starting index, false otherwise.
-   */
-  private boolean containsSequenceAtGivenIndex(List<?> actualAsList, Object[] sequence, int startingIndex) {
-    // check that, starting from given index, actualAsList has enough remaining elements to contain sequence
-    if (actualAsList.size() - startingIndex < sequence.length) return false;
-    for (int i = 0; i < sequence.length; i++) {
-      if (!areEqual(actualAsList.get(startingIndex + i), sequence[i])) return false;
-    }
-    return true;
-  }
-
   private boolean areEqual(Object actual, Object other) {
     return comparisonStrategy.areEqual(actual, other);
   }
@@ -661,8 +687,9 @@ public class Iterables {
     checkIsNotNullAndNotEmpty(values);
     assertNotNull(info, actual);
     Set<Object> found = new LinkedHashSet<>();
+    Predicate<Object> actualContains = containedIn(actual, asList(values));
     for (Object o : values) {
-      if (iterableContains(actual, o)) found.add(o);
+      if (actualContains.test(o)) found.add(o);
     }
     if (!found.isEmpty()) throw failures.failure(info, shouldNotContain(actual, values, found, comparisonStrategy));
   }
@@ -1276,20 +1303,11 @@ public class Iterables {
   public void assertContainsExactlyInAnyOrder(AssertionInfo info, Iterable<?> actual, Object[] values) {
     checkIsNotNull(values);
     assertNotNull(info, actual);
-    List<Object> notExpected = newArrayList(actual);
-    List<Object> notFound = newArrayList(values);
-
-    for (Object value : values) {
-      if (iterableContains(notExpected, value)) {
-        iterablesRemoveFirst(notExpected, value);
-        iterablesRemoveFirst(notFound, value);
-      }
-    }
-
-    if (notExpected.isEmpty() && notFound.isEmpty()) return;
+    IterableDiff diff = diffInAnyOrder(newArrayList(actual), asList(values), comparisonStrategy);
+    if (!diff.differencesFound()) return;
 
     throw failures.failure(info,
-                           shouldContainExactlyInAnyOrder(actual, values, notFound, notExpected, comparisonStrategy));
+                           shouldContainExactlyInAnyOrder(actual, values, diff.missing, diff.unexpected, comparisonStrategy));
   }
 
   void assertNotNull(AssertionInfo info, Iterable<?> actual) {
@@ -12,22 +12,48 @@
  */
 package org.assertj.core.internal;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Objects.requireNonNull;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfy;
+import static org.assertj.core.error.ElementsShouldSatisfy.elementsShouldSatisfyAny;
 import static org.assertj.core.error.ShouldBeExhausted.shouldBeExhausted;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeSorted;
+import static org.assertj.core.error.ShouldBeSorted.shouldBeSortedAccordingToGivenComparator;
+import static org.assertj.core.error.ShouldBeSorted.shouldHaveComparableElementsAccordingToGivenComparator;
+import static org.assertj.core.error.ShouldBeSorted.shouldHaveMutuallyComparableElements;
+import static org.assertj.core.error.ShouldContainSubsequence.shouldContainSubsequence;
 import static org.assertj.core.error.ShouldHaveNext.shouldHaveNext;
+import static org.assertj.core.error.ShouldHaveSizeGreaterThan.shouldHaveSizeGreaterThan;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThanButHadAtLeast;
+import static org.assertj.core.error.ShouldStartWith.shouldStartWith;
+import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
+import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
 import static org.assertj.core.internal.Comparables.assertNotNull;
+import static org.assertj.core.util.Preconditions.checkArgument;
 
+import java.util.Comparator;
 import java.util.Iterator;
+import java.util.function.Consumer;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.error.ElementsShouldSatisfy.UnsatisfiedRequirement;
 import org.assertj.core.util.VisibleForTesting;
 
 /**
  * Reusable assertions for <code>{@link Iterator}</code>s.
+ * <p>
+ * Apart from {@link #assertHasNext(AssertionInfo, Iterator)} and {@link #assertIsExhausted(AssertionInfo, Iterator)},
+ * assertions consume the elements of the iterator: they visit each element once, only keep what they need to check them
+ * and stop as soon as their outcome is known. As the iterator elements are not all known when an assertion fails, error
+ * messages refer to the iterator as {@value #ITERATOR_UNDER_TEST}.
  *
  * @author Stephan Windmüller
  */
 public class Iterators {
 
+  static final String ITERATOR_UNDER_TEST = "Iterator under test";
+
   private static final Iterators INSTANCE = new Iterators();
 
   /**
@@ -41,6 +67,8 @@ public class Iterators {
   @VisibleForTesting
   Failures failures = Failures.instance();
 
+  private final ComparisonStrategy comparisonStrategy = StandardComparisonStrategy.instance();
+
   @VisibleForTesting
   Iterators() {}
 
@@ -54,4 +82,206 @@ public class Iterators {
     if (actual.hasNext()) throw failures.failure(info, shouldBeExhausted());
   }
 
+  /**
+   * Asserts that all the remaining elements of the given {@code Iterator} satisfy the given requirements, the iterator is
+   * consumed until an element does not satisfy them.
+   *
+   * @param <E> the type of the iterator elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param requirements the requirements elements must satisfy.
+   * @throws NullPointerException if the given requirements are {@code null}.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if an element does not satisfy the given requirements.
+   */
+  public <E> void assertAllSatisfy(AssertionInfo info, Iterator<? extends E> actual, Consumer<? super E> requirements) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+    while (actual.hasNext()) {
+      E element = actual.next();
+      try {
+        requirements.accept(element);
+      } catch (AssertionError e) {
+        UnsatisfiedRequirement unsatisfiedRequirement = new UnsatisfiedRequirement(element, e.getMessage());
+        throw failures.failure(info, elementsShouldSatisfy(ITERATOR_UNDER_TEST, singletonList(unsatisfiedRequirement), info));
+      }
+    }
+  }
+
+  /**
+   * Asserts that at least one of the remaining elements of the given {@code Iterator} satisfies the given requirements,
+   * the iterator is consumed until an element satisfies them.
+   * <p>
+   * Only the first unsatisfied requirement is kept to be reported if no element satisfies the requirements.
+   *
+   * @param <E> the type of the iterator elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param requirements the requirements an element must satisfy.
+   * @throws NullPointerException if the given requirements are {@code null}.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if no element satisfies the given requirements.
+   */
+  public <E> void assertAnySatisfy(AssertionInfo info, Iterator<? extends E> actual, Consumer<? super E> requirements) {
+    assertNotNull(info, actual);
+    requireNonNull(requirements, "The Consumer<T> expressing the assertions requirements must not be null");
+    UnsatisfiedRequirement firstUnsatisfiedRequirement = null;
+    while (actual.hasNext()) {
+      E element = actual.next();
+      try {
+        requirements.accept(element);
+        return;
+      } catch (AssertionError e) {
+        if (firstUnsatisfiedRequirement == null) firstUnsatisfiedRequirement = new UnsatisfiedRequirement(element, e.getMessage());
+      }
+    }
+    throw failures.failure(info, elementsShouldSatisfyAny(ITERATOR_UNDER_TEST,
+                                                          firstUnsatisfiedRequirement == null
+                                                              ? emptyList()
+                                                              : singletonList(firstUnsatisfiedRequirement),
+                                                          info));
+  }
+
+  /**
+   * Asserts that the remaining elements of the given {@code Iterator} contain the given subsequence of objects (possibly
+   * with other values between them), the iterator is consumed until the whole subsequence is found.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param subsequence the subsequence of objects to look for.
+   * @throws NullPointerException if the given subsequence is {@code null}.
+   * @throws AssertionError if the given subsequence is empty and the given {@code Iterator} is not exhausted.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} does not contain the given subsequence of objects.
+   */
+  public void assertContainsSubsequence(AssertionInfo info, Iterator<?> actual, Object[] subsequence) {
+    checkIsNotNull(subsequence);
+    assertNotNull(info, actual);
+    if (!actual.hasNext() && subsequence.length == 0) return;
+    failIfEmptySinceActualIsNotEmpty(subsequence);
+    int subsequenceIndex = 0;
+    while (actual.hasNext() && subsequenceIndex < subsequence.length) {
+      if (comparisonStrategy.areEqual(actual.next(), subsequence[subsequenceIndex])) subsequenceIndex++;
+    }
+    if (subsequenceIndex < subsequence.length)
+      throw failures.failure(info, shouldContainSubsequence(ITERATOR_UNDER_TEST, subsequence, comparisonStrategy));
+  }
+
+  /**
+   * Asserts that the remaining elements of the given {@code Iterator} start with the given sequence of objects, without
+   * any other objects between them. Only the elements compared to the sequence are consumed.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param sequence the sequence of objects to look for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the given sequence is empty and the given {@code Iterator} is not exhausted.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} does not start with the given sequence of objects.
+   */
+  public void assertStartsWith(AssertionInfo info, Iterator<?> actual, Object[] sequence) {
+    assertStartsWith(info, actual, sequence, ITERATOR_UNDER_TEST, comparisonStrategy);
+  }
+
+  void assertStartsWith(AssertionInfo info, Iterator<?> actual, Object[] sequence, Object group,
+                        ComparisonStrategy comparisonStrategy) {
+    checkIsNotNull(sequence);
+    assertNotNull(info, actual);
+    if (!actual.hasNext() && sequence.length == 0) return;
+    failIfEmptySinceActualIsNotEmpty(sequence);
+    for (Object expected : sequence) {
+      if (!actual.hasNext() || !comparisonStrategy.areEqual(actual.next(), expected))
+        throw failures.failure(info, shouldStartWith(group, sequence, comparisonStrategy));
+    }
+  }
+
+  /**
+   * Asserts that the remaining elements of the given {@code Iterator} are sorted in ascending order according to their
+   * natural ordering. Only the previous element is kept to check the next one, the iterator is consumed until an element
+   * is not in order.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} elements are not mutually comparable.
+   * @throws AssertionError if the given {@code Iterator} is not sorted.
+   */
+  public void assertIsSorted(AssertionInfo info, Iterator<?> actual) {
+    assertIsSorted(info, actual, ITERATOR_UNDER_TEST, comparisonStrategy);
+  }
+
+  @SuppressWarnings({ "rawtypes", "unchecked" })
+  void assertIsSorted(AssertionInfo info, Iterator<?> actual, Object group, ComparisonStrategy comparisonStrategy) {
+    assertNotNull(info, actual);
+    Comparator<?> comparator = comparisonStrategy instanceof ComparatorBasedComparisonStrategy
+        ? ((ComparatorBasedComparisonStrategy) comparisonStrategy).getComparator()
+        : null;
+    Comparator rawComparator = comparator != null ? comparator : (e1, e2) -> ((Comparable) e1).compareTo(e2);
+    // exhausted iterators are considered sorted
+    if (!actual.hasNext()) return;
+    Object element = actual.next();
+    try {
+      // compare the first element with itself to verify that it can be compared (a ClassCastException is thrown if not)
+      rawComparator.compare(element, element);
+      for (int i = 0; actual.hasNext(); i++) {
+        Object nextElement = actual.next();
+        if (rawComparator.compare(element, nextElement) > 0) {
+          throw failures.failure(info, comparator == null
+              ? shouldBeSorted(i, element, nextElement, group)
+              : shouldBeSortedAccordingToGivenComparator(i, element, nextElement, group, comparator));
+        }
+        element = nextElement;
+      }
+    } catch (ClassCastException e) {
+      throw failures.failure(info, comparator == null
+          ? shouldHaveMutuallyComparableElements(group)
+          : shouldHaveComparableElementsAccordingToGivenComparator(group, comparator));
+    }
+  }
+
+  /**
+   * Asserts that the number of remaining elements in the given {@code Iterator} is less than the boundary, the iterator
+   * is consumed until the boundary is reached.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param boundary the given value to compare the number of remaining elements to.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the number of remaining elements in the given {@code Iterator} is greater than or equal to
+   *           the boundary.
+   */
+  public void assertHasSizeLessThan(AssertionInfo info, Iterator<?> actual, int boundary) {
+    assertNotNull(info, actual);
+    int size = 0;
+    while (size < boundary && actual.hasNext()) {
+      actual.next();
+      size++;
+    }
+    if (size >= boundary) throw failures.failure(info, shouldHaveSizeLessThanButHadAtLeast(ITERATOR_UNDER_TEST, size, boundary));
+  }
+
+  /**
+   * Asserts that the given {@code Iterator} has an element at the given index of its remaining elements and returns it,
+   * the iterator is consumed up to this element.
+   *
+   * @param <E> the type of the iterator elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Iterator}.
+   * @param index the index of the element.
+   * @return the element at the given index.
+   * @throws IllegalArgumentException if the given index is negative.
+   * @throws AssertionError if the given {@code Iterator} is {@code null}.
+   * @throws AssertionError if the given {@code Iterator} has no element at the given index.
+   */
+  public <E> E assertHasElementAt(AssertionInfo info, Iterator<? extends E> actual, int index) {
+    checkArgument(index >= 0, "The index must be positive or zero but was %s", index);
+    assertNotNull(info, actual);
+    for (int i = 0; i < index; i++) {
+      if (!actual.hasNext()) throw failures.failure(info, shouldHaveSizeGreaterThan(ITERATOR_UNDER_TEST, i, index));
+      actual.next();
+    }
+    if (!actual.hasNext()) throw failures.failure(info, shouldHaveSizeGreaterThan(ITERATOR_UNDER_TEST, index, index));
+    return actual.next();
+  }
+
 }
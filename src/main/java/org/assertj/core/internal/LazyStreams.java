@@ -0,0 +1,279 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.util.Collections.singletonList;
+import static org.assertj.core.error.AnyElementShouldMatch.anyElementShouldMatch;
+import static org.assertj.core.error.ElementsShouldMatch.elementsShouldMatch;
+import static org.assertj.core.error.NoElementsShouldMatch.noElementsShouldMatch;
+import static org.assertj.core.error.ShouldContain.streamShouldContain;
+import static org.assertj.core.error.ShouldHaveSize.shouldHaveSize;
+import static org.assertj.core.error.ShouldNotHaveDuplicates.shouldNotHaveDuplicates;
+import static org.assertj.core.internal.CommonValidations.checkIsNotNull;
+import static org.assertj.core.internal.CommonValidations.failIfEmptySinceActualIsNotEmpty;
+import static org.assertj.core.internal.StandardComparisonStrategy.isHashable;
+import static org.assertj.core.util.Lists.newArrayList;
+import static org.assertj.core.util.Objects.hashCodeFor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.presentation.PredicateDescription;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * Reusable assertions visiting the elements of <code>{@link Stream}</code>s once.
+ * <p>
+ * Unlike {@link Iterables}, the stream elements are not collected in a list: each assertion only keeps what it needs to
+ * check them and stops visiting the stream as soon as its outcome is known. As the stream elements are not all known when
+ * an assertion fails, error messages refer to the stream as {@value #STREAM_UNDER_TEST}.
+ */
+public class LazyStreams {
+
+  static final String STREAM_UNDER_TEST = "Stream under test";
+
+  private static final LazyStreams INSTANCE = new LazyStreams();
+
+  /**
+   * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   *
+   * @return the singleton instance of this class based on {@link StandardComparisonStrategy}.
+   */
+  public static LazyStreams instance() {
+    return INSTANCE;
+  }
+
+  private final ComparisonStrategy comparisonStrategy;
+
+  @VisibleForTesting
+  Failures failures = Failures.instance();
+
+  @VisibleForTesting
+  Predicates predicates = Predicates.instance();
+
+  @VisibleForTesting
+  Iterators iterators = Iterators.instance();
+
+  @VisibleForTesting
+  LazyStreams() {
+    this(StandardComparisonStrategy.instance());
+  }
+
+  public LazyStreams(ComparisonStrategy comparisonStrategy) {
+    this.comparisonStrategy = comparisonStrategy;
+  }
+
+  @VisibleForTesting
+  public ComparisonStrategy getComparisonStrategy() {
+    return comparisonStrategy;
+  }
+
+  /**
+   * Asserts that all the elements of the given {@code Stream} match the given {@link Predicate}, the stream is visited
+   * until an element does not match it.
+   *
+   * @param <E> the type of the stream elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @param predicate the predicate elements must match.
+   * @param predicateDescription the description of the predicate.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if an element does not match the given predicate.
+   */
+  public <E> void assertAllMatch(AssertionInfo info, Stream<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    Iterator<? extends E> elements = actual.iterator();
+    while (elements.hasNext()) {
+      E element = elements.next();
+      if (!predicate.test(element))
+        throw failures.failure(info, elementsShouldMatch(STREAM_UNDER_TEST, element, predicateDescription));
+    }
+  }
+
+  /**
+   * Asserts that at least one element of the given {@code Stream} matches the given {@link Predicate}, the stream is
+   * visited until an element matches it.
+   *
+   * @param <E> the type of the stream elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @param predicate the predicate an element must match.
+   * @param predicateDescription the description of the predicate.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if no element matches the given predicate.
+   */
+  public <E> void assertAnyMatch(AssertionInfo info, Stream<? extends E> actual, Predicate<? super E> predicate,
+                                 PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    Iterator<? extends E> elements = actual.iterator();
+    while (elements.hasNext()) {
+      if (predicate.test(elements.next())) return;
+    }
+    throw failures.failure(info, anyElementShouldMatch(STREAM_UNDER_TEST, predicateDescription));
+  }
+
+  /**
+   * Asserts that no element of the given {@code Stream} matches the given {@link Predicate}, the stream is visited until an
+   * element matches it.
+   *
+   * @param <E> the type of the stream elements.
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @param predicate the predicate elements must not match.
+   * @param predicateDescription the description of the predicate.
+   * @throws NullPointerException if the given predicate is {@code null}.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if an element matches the given predicate.
+   */
+  public <E> void assertNoneMatch(AssertionInfo info, Stream<? extends E> actual, Predicate<? super E> predicate,
+                                  PredicateDescription predicateDescription) {
+    assertNotNull(info, actual);
+    predicates.assertIsNotNull(predicate);
+    Iterator<? extends E> elements = actual.iterator();
+    while (elements.hasNext()) {
+      E element = elements.next();
+      if (predicate.test(element))
+        throw failures.failure(info, noElementsShouldMatch(STREAM_UNDER_TEST, element, predicateDescription));
+    }
+  }
+
+  /**
+   * Asserts that the number of elements in the given {@code Stream} is equal to the expected one, the elements are counted
+   * without being kept.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @param expectedSize the expected number of elements.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if the number of elements in the given {@code Stream} is different than the expected one.
+   */
+  public void assertHasSize(AssertionInfo info, Stream<?> actual, int expectedSize) {
+    assertNotNull(info, actual);
+    long size = actual.count();
+    if (size != expectedSize) throw failures.failure(info, shouldHaveSize(STREAM_UNDER_TEST, size, expectedSize));
+  }
+
+  /**
+   * Asserts that the given {@code Stream} contains the given values, in any order. The stream is visited until all values
+   * have been found, only the values not found yet are kept.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @param values the values that are expected to be in the given {@code Stream}.
+   * @throws NullPointerException if the array of values is {@code null}.
+   * @throws AssertionError if the array of values is empty and the given {@code Stream} is not.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if the given {@code Stream} does not contain the given values.
+   */
+  public void assertContains(AssertionInfo info, Stream<?> actual, Object[] values) {
+    checkIsNotNull(values);
+    assertNotNull(info, actual);
+    Iterator<?> elements = actual.iterator();
+    // if both actual and values are empty, then assertion passes.
+    if (!elements.hasNext() && values.length == 0) return;
+    failIfEmptySinceActualIsNotEmpty(values);
+    boolean hashLookups = comparisonStrategy == StandardComparisonStrategy.instance()
+                          && Stream.of(values).allMatch(StandardComparisonStrategy::isHashable);
+    Collection<Object> notFound = hashLookups ? new LinkedHashSet<>() : new ArrayList<>();
+    notFound.addAll(newArrayList(values));
+    while (elements.hasNext() && !notFound.isEmpty()) {
+      Object element = elements.next();
+      if (hashLookups && isHashable(element)) notFound.remove(element);
+      else comparisonStrategy.iterableRemoves(notFound, element);
+    }
+    if (!notFound.isEmpty())
+      throw failures.failure(info, streamShouldContain(values, new LinkedHashSet<>(notFound), comparisonStrategy));
+  }
+
+  /**
+   * Asserts that the given {@code Stream} starts with the given sequence of objects, without any other objects between
+   * them. Only the first elements of the stream are visited.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @param sequence the sequence of objects to look for.
+   * @throws NullPointerException if the given sequence is {@code null}.
+   * @throws AssertionError if the given sequence is empty and the given {@code Stream} is not.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if the given {@code Stream} does not start with the given sequence of objects.
+   */
+  public void assertStartsWith(AssertionInfo info, Stream<?> actual, Object[] sequence) {
+    checkIsNotNull(sequence);
+    assertNotNull(info, actual);
+    iterators.assertStartsWith(info, actual.iterator(), sequence, STREAM_UNDER_TEST, comparisonStrategy);
+  }
+
+  /**
+   * Asserts that the given {@code Stream} is sorted in ascending order according to the comparison strategy if it is
+   * comparator based or to the natural ordering of its elements otherwise. Only the previous element is kept to check
+   * the next one, the stream is visited until an element is not in order.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if the given {@code Stream} elements are not mutually comparable.
+   * @throws AssertionError if the given {@code Stream} is not sorted.
+   */
+  public void assertIsSorted(AssertionInfo info, Stream<?> actual) {
+    assertNotNull(info, actual);
+    iterators.assertIsSorted(info, actual.iterator(), STREAM_UNDER_TEST, comparisonStrategy);
+  }
+
+  /**
+   * Asserts that the given {@code Stream} does not have duplicate values. The distinct elements visited are kept to look
+   * for duplicates, the stream is visited until a duplicate is found.
+   *
+   * @param info contains information about the assertion.
+   * @param actual the given {@code Stream}.
+   * @throws AssertionError if the given {@code Stream} is {@code null}.
+   * @throws AssertionError if the given {@code Stream} has duplicate values.
+   */
+  public void assertDoesNotHaveDuplicates(AssertionInfo info, Stream<?> actual) {
+    assertNotNull(info, actual);
+    Set<Object> visited = newSetUsingComparisonStrategy();
+    Iterator<?> elements = actual.iterator();
+    while (elements.hasNext()) {
+      Object element = elements.next();
+      if (!visited.add(element))
+        throw failures.failure(info, shouldNotHaveDuplicates(STREAM_UNDER_TEST, singletonList(element), comparisonStrategy));
+    }
+  }
+
+  private Set<Object> newSetUsingComparisonStrategy() {
+    if (comparisonStrategy instanceof AbstractComparisonStrategy) {
+      return ((AbstractComparisonStrategy) comparisonStrategy).newSetUsingComparisonStrategy();
+    }
+    // same as StandardComparisonStrategy but comparing objects with the given comparison strategy
+    return new TreeSet<>((o1, o2) -> {
+      if (comparisonStrategy.areEqual(o1, o2)) return 0;
+      return hashCodeFor(o1) < hashCodeFor(o2) ? -1 : 1;
+    });
+  }
+
+  private void assertNotNull(AssertionInfo info, Stream<?> actual) {
+    Objects.instance().assertNotNull(info, actual);
+  }
+
+}
@@ -52,6 +52,8 @@ import static org.assertj.core.util.Objects.areEqual;
 import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
@@ -775,6 +777,8 @@ public class Maps {
     if (actual.isEmpty() && entries.length == 0) return;
     failIfEmpty(entries);
     assertHasSameSizeAs(info, actual, entries);
+    // walk both in order first, the common passing case does not need the entries to be compared by key
+    if (containsExactlyInOrder(actual, entries)) return;
 
     Set<Map.Entry<? extends K, ? extends V>> notFound = new LinkedHashSet<>();
     Set<Map.Entry<? extends K, ? extends V>> notExpected = new LinkedHashSet<>();
@@ -798,41 +802,51 @@ public class Maps {
     throw failures.failure(info, shouldContainExactly(actual, asList(entries), notFound, notExpected));
   }
 
+  private <K, V> boolean containsExactlyInOrder(Map<K, V> actual, Map.Entry<? extends K, ? extends V>[] entries) {
+    int index = 0;
+    for (Map.Entry<K, V> actualEntry : actual.entrySet()) {
+      Map.Entry<? extends K, ? extends V> entry = entries[index++];
+      requireNonNull(entry, "Entries to look for should not be null");
+      if (!areEqual(actualEntry.getKey(), entry.getKey()) || !areEqual(actualEntry.getValue(), entry.getValue())) return false;
+    }
+    return true;
+  }
+
   private <K, V> void compareActualMapAndExpectedKeys(Map<K, V> actual, K[] keys, Set<K> notExpected,
                                                       Set<K> notFound) {
-
-    Map<K, V> actualEntries = new LinkedHashMap<>(actual);
+    // index the expected keys once and visit actual keys once, actual is not copied
+    Set<K> expectedKeys = new HashSet<>();
+    Collections.addAll(expectedKeys, keys);
+    Set<K> foundKeys = new HashSet<>();
+    for (K key : actual.keySet()) {
+      if (expectedKeys.contains(key)) foundKeys.add(key);
+      else notExpected.add(key);
+    }
     for (K key : keys) {
-      if (actualEntries.containsKey(key)) {
-        // this is an expected key
-        actualEntries.remove(key);
-      } else {
-        // this is a not found key
-        notFound.add(key);
-      }
+      // a key can only be found once, expecting it twice makes the second one not found
+      if (!foundKeys.remove(key)) notFound.add(key);
     }
-    // All remaining keys from actual copy are not expected entries.
-    notExpected.addAll(actualEntries.keySet());
   }
 
   private <K, V> void compareActualMapAndExpectedEntries(Map<K, V> actual,
                                                          Map.Entry<? extends K, ? extends V>[] entries,
                                                          Set<Map.Entry<? extends K, ? extends V>> notExpected,
                                                          Set<Map.Entry<? extends K, ? extends V>> notFound) {
-    Map<K, V> expectedEntries = entriesToMap(entries);
-    Map<K, V> actualEntries = new LinkedHashMap<>(actual);
-    for (Map.Entry<K, V> entry : expectedEntries.entrySet()) {
-      if (containsEntry(actualEntries, entry(entry.getKey(), entry.getValue()))) {
+    // index the expected entries once and visit actual entries once, actual is not copied
+    Map<K, V> notFoundEntries = entriesToMap(entries);
+    for (Map.Entry<K, V> actualEntry : actual.entrySet()) {
+      K key = actualEntry.getKey();
+      if (notFoundEntries.containsKey(key) && areEqual(actualEntry.getValue(), notFoundEntries.get(key))) {
         // this is an expected entry
-        actualEntries.remove(entry.getKey());
+        notFoundEntries.remove(key);
       } else {
-        // this is a not found entry
-        notFound.add(entry(entry.getKey(), entry.getValue()));
+        // this is not an expected entry
+        notExpected.add(entry(key, actualEntry.getValue()));
       }
     }
-    // All remaining entries from actual copy are not expected entries.
-    for (Map.Entry<K, V> entry : actualEntries.entrySet()) {
-      notExpected.add(entry(entry.getKey(), entry.getValue()));
+    // All remaining expected entries have not been found.
+    for (Map.Entry<K, V> entry : notFoundEntries.entrySet()) {
+      notFound.add(entry(entry.getKey(), entry.getValue()));
     }
   }
 
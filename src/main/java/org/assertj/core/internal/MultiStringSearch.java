@@ -0,0 +1,152 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+
+/**
+ * Looks for several values in a text visited once, whatever the number of values, with the Aho-Corasick algorithm.
+ * <p>
+ * The values are stored in a trie where each node links to the node of its longest proper suffix in the trie. The text
+ * characters are followed in the trie, going back through these links when the next character can't be followed, the
+ * values ending at a text character are the one of the reached node and of its suffixes.
+ */
+final class MultiStringSearch {
+
+  private final String[] values;
+  private final Node root = new Node();
+  private int distinctValuesCount;
+
+  private MultiStringSearch(CharSequence[] values) {
+    this.values = Arrays.stream(values).map(CharSequence::toString).toArray(String[]::new);
+    addValuesToTrie();
+    linkSuffixes();
+  }
+
+  /**
+   * Creates a search of the given values.
+   *
+   * @param values the values to look for.
+   * @return a new search.
+   */
+  static MultiStringSearch searchFor(CharSequence[] values) {
+    return new MultiStringSearch(values);
+  }
+
+  /**
+   * Returns the values found in the given text, the text is visited until all values are found.
+   *
+   * @param text the text to look values in.
+   * @return the values found in the given text.
+   */
+  Set<String> valuesFoundIn(CharSequence text) {
+    boolean[] found = new boolean[values.length];
+    Set<String> foundValues = new HashSet<>();
+    // the empty string is found in any text
+    if (root.valueIndex >= 0) {
+      found[root.valueIndex] = true;
+      foundValues.add(values[root.valueIndex]);
+    }
+    Node node = root;
+    for (int i = 0; i < text.length() && foundValues.size() < distinctValuesCount; i++) {
+      node = node.follow(text.charAt(i));
+      Node valueNode = node.valueIndex >= 0 ? node : node.valueSuffix;
+      // the values ending at a node already found have their suffixes found too
+      while (valueNode != null && !found[valueNode.valueIndex]) {
+        found[valueNode.valueIndex] = true;
+        foundValues.add(values[valueNode.valueIndex]);
+        valueNode = valueNode.valueSuffix;
+      }
+    }
+    return foundValues;
+  }
+
+  private void addValuesToTrie() {
+    for (int valueIndex = 0; valueIndex < values.length; valueIndex++) {
+      Node node = root;
+      for (char c : values[valueIndex].toCharArray()) {
+        Node child = node.child(c);
+        node = child != null ? child : node.addChild(c);
+      }
+      if (node.valueIndex < 0) {
+        // duplicated values end at the same node
+        node.valueIndex = valueIndex;
+        distinctValuesCount++;
+      }
+    }
+  }
+
+  // links each node to its longest proper suffix, breadth first since suffixes are shorter
+  private void linkSuffixes() {
+    Queue<Node> nodes = new ArrayDeque<>();
+    for (Node child : root.children) {
+      child.suffix = root;
+      child.valueSuffix = root.valueIndex >= 0 ? root : null;
+      nodes.add(child);
+    }
+    while (!nodes.isEmpty()) {
+      Node node = nodes.remove();
+      for (int i = 0; i < node.children.length; i++) {
+        Node child = node.children[i];
+        child.suffix = node.suffix.follow(node.chars[i]);
+        child.valueSuffix = child.suffix.valueIndex >= 0 ? child.suffix : child.suffix.valueSuffix;
+        nodes.add(child);
+      }
+    }
+  }
+
+  private final class Node {
+
+    // children sorted by the character leading to them
+    private char[] chars = new char[0];
+    private Node[] children = new Node[0];
+    private Node suffix;
+    // the nearest node ending a value in the suffixes chain
+    private Node valueSuffix;
+    private int valueIndex = -1;
+
+    private Node child(char c) {
+      int index = Arrays.binarySearch(chars, c);
+      return index >= 0 ? children[index] : null;
+    }
+
+    private Node addChild(char c) {
+      int index = -Arrays.binarySearch(chars, c) - 1;
+      char[] newChars = new char[chars.length + 1];
+      Node[] newChildren = new Node[children.length + 1];
+      System.arraycopy(chars, 0, newChars, 0, index);
+      System.arraycopy(children, 0, newChildren, 0, index);
+      System.arraycopy(chars, index, newChars, index + 1, chars.length - index);
+      System.arraycopy(children, index, newChildren, index + 1, children.length - index);
+      newChars[index] = c;
+      newChildren[index] = new Node();
+      chars = newChars;
+      children = newChildren;
+      return newChildren[index];
+    }
+
+    // the node reached from this one with the given character, going back through suffixes if needed
+    private Node follow(char c) {
+      for (Node node = this; node != null; node = node.suffix) {
+        Node child = node.child(c);
+        if (child != null) return child;
+      }
+      return root;
+    }
+  }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Character.isWhitespace;
+
+/**
+ * Reads the characters of a {@link CharSequence} once as if its whitespace had been removed or normalized (and optionally
+ * its punctuation removed), without building the normalized {@code String}.
+ * <p>
+ * Normalizing whitespace gives the same characters as replacing each whitespace run by a single space and then calling
+ * {@link String#trim()}, punctuation is the one matched by the {@code \p{Punct}} regex.
+ */
+final class NormalizedChars {
+
+  private static final String PUNCTUATION = "!\"#$%&'()*+,-./:;<=>?@[\\]^_`{|}~";
+  private static final int END = -1;
+
+  private final CharSequence chars;
+  private final boolean collapseWhitespace;
+  private final boolean ignorePunctuation;
+  private final int end;
+  private int index;
+
+  private NormalizedChars(CharSequence chars, boolean collapseWhitespace, boolean ignorePunctuation) {
+    this.chars = chars;
+    this.collapseWhitespace = collapseWhitespace;
+    this.ignorePunctuation = ignorePunctuation;
+    int start = 0;
+    int end = chars.length();
+    if (collapseWhitespace) {
+      // like String#trim, leading and trailing characters up to ' ' are removed once whitespace has been normalized
+      while (start < end && isTrimmed(chars.charAt(start))) start++;
+      while (end > start && isTrimmed(chars.charAt(end - 1))) end--;
+    }
+    this.index = start;
+    this.end = end;
+  }
+
+  static NormalizedChars ignoringWhitespace(CharSequence chars) {
+    return new NormalizedChars(chars, false, false);
+  }
+
+  static NormalizedChars normalizingWhitespace(CharSequence chars) {
+    return new NormalizedChars(chars, true, false);
+  }
+
+  static NormalizedChars normalizingPunctuationAndWhitespace(CharSequence chars) {
+    return new NormalizedChars(chars, true, true);
+  }
+
+  /**
+   * Returns whether the remaining normalized characters of this and the other sequence are the same, both sequences are
+   * read until the first different character.
+   *
+   * @param other the other normalized sequence.
+   * @return whether the remaining normalized characters of this and the other sequence are the same.
+   */
+  boolean contentEquals(NormalizedChars other) {
+    int next;
+    do {
+      next = next();
+      if (next != other.next()) return false;
+    } while (next != END);
+    return true;
+  }
+
+  private int next() {
+    while (index < end) {
+      char c = chars.charAt(index++);
+      if (isIgnored(c)) continue;
+      if (!isWhitespace(c)) return c;
+      if (!collapseWhitespace) continue;
+      // a whitespace run, including the ignored characters in it, is normalized to a single space
+      while (index < end && (isWhitespace(chars.charAt(index)) || isIgnored(chars.charAt(index)))) index++;
+      return ' ';
+    }
+    return END;
+  }
+
+  private boolean isTrimmed(char c) {
+    return c <= ' ' || isWhitespace(c) || isIgnored(c);
+  }
+
+  private boolean isIgnored(char c) {
+    return ignorePunctuation && PUNCTUATION.indexOf(c) >= 0;
+  }
+
+}
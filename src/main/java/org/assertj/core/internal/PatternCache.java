@@ -0,0 +1,192 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.util.Preconditions.checkArgument;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+import org.assertj.core.configuration.Configuration;
+import org.assertj.core.util.VisibleForTesting;
+
+/**
+ * A bounded cache of the {@link Pattern}s compiled from the regular expressions given to assertions, it avoids compiling
+ * again the same regular expressions when assertions are performed many times.
+ * <p>
+ * The cache is shared by all threads, when it is full the least recently used pattern is evicted. Its size is set with
+ * {@link Configuration#setPatternCacheSize(int)}, a size of 0 disables it.
+ */
+public final class PatternCache {
+
+  private static final PatternCache INSTANCE = new PatternCache(Configuration.PATTERN_CACHE_SIZE);
+
+  /**
+   * Returns the cache shared by all assertions.
+   *
+   * @return the cache shared by all assertions.
+   */
+  public static PatternCache instance() {
+    return INSTANCE;
+  }
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  // access ordered, the eldest entry is the least recently used one
+  private final LinkedHashMap<Key, Pattern> patterns = new LinkedHashMap<Key, Pattern>(16, 0.75f, true) {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Key, Pattern> eldest) {
+      return size() > maxSize;
+    }
+  };
+  private volatile int maxSize;
+
+  @VisibleForTesting
+  PatternCache(int maxSize) {
+    setMaxSize(maxSize);
+  }
+
+  /**
+   * Returns the pattern compiled from the given regular expression, compiling it only if it is not in the cache.
+   *
+   * @param regex the regular expression to compile.
+   * @return the compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the given regular expression is invalid.
+   */
+  public Pattern compile(String regex) {
+    return compile(regex, 0);
+  }
+
+  /**
+   * Returns the pattern compiled from the given regular expression with the given flags, compiling it only if it is not
+   * in the cache.
+   *
+   * @param regex the regular expression to compile.
+   * @param flags the match flags, see {@link Pattern#compile(String, int)}.
+   * @return the compiled pattern.
+   * @throws java.util.regex.PatternSyntaxException if the given regular expression is invalid.
+   */
+  public Pattern compile(String regex, int flags) {
+    Key key = new Key(regex, flags);
+    Pattern pattern;
+    synchronized (patterns) {
+      pattern = patterns.get(key);
+    }
+    if (pattern != null) {
+      hitCount.increment();
+      return pattern;
+    }
+    missCount.increment();
+    // compiled outside the lock, two threads missing the same regex at once both compile it which is harmless
+    pattern = Pattern.compile(regex, flags);
+    if (maxSize > 0) {
+      synchronized (patterns) {
+        patterns.put(key, pattern);
+      }
+    }
+    return pattern;
+  }
+
+  /**
+   * Sets the maximum number of patterns kept in the cache, the least recently used patterns are evicted if the cache
+   * holds more patterns.
+   *
+   * @param maxSize the maximum number of patterns kept, 0 disables the cache.
+   * @throws IllegalArgumentException if the given size is negative.
+   */
+  public void setMaxSize(int maxSize) {
+    checkArgument(maxSize >= 0, "patternCacheSize must be >= 0, but was %s", maxSize);
+    this.maxSize = maxSize;
+    synchronized (patterns) {
+      patterns.keySet().removeIf(key -> patterns.size() > maxSize);
+    }
+  }
+
+  /**
+   * Returns the maximum number of patterns kept in the cache.
+   *
+   * @return the maximum number of patterns kept in the cache.
+   */
+  public int maxSize() {
+    return maxSize;
+  }
+
+  /**
+   * Returns the number of patterns currently in the cache.
+   *
+   * @return the number of patterns currently in the cache.
+   */
+  public int size() {
+    synchronized (patterns) {
+      return patterns.size();
+    }
+  }
+
+  /**
+   * Returns how many times a requested pattern was found in the cache.
+   *
+   * @return how many times a requested pattern was found in the cache.
+   */
+  public long hitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * Returns how many times a requested pattern had to be compiled.
+   *
+   * @return how many times a requested pattern had to be compiled.
+   */
+  public long missCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * Removes all the patterns from the cache and resets the hit and miss counters.
+   */
+  public void clear() {
+    synchronized (patterns) {
+      patterns.clear();
+    }
+    hitCount.reset();
+    missCount.reset();
+  }
+
+  private static final class Key {
+
+    private final String regex;
+    private final int flags;
+
+    private Key(String regex, int flags) {
+      this.regex = regex;
+      this.flags = flags;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) return true;
+      if (!(obj instanceof Key)) return false;
+      Key other = (Key) obj;
+      return flags == other.flags && regex.equals(other.regex);
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * regex.hashCode() + flags;
+    }
+  }
+
+}
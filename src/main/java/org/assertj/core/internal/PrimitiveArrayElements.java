@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Double.doubleToLongBits;
+import static java.lang.Float.floatToIntBits;
+import static java.lang.String.format;
+import static java.lang.reflect.Array.getLength;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntToLongFunction;
+
+/**
+ * The elements of a primitive array read as {@code long} keys that are equal when the boxed elements are, this allows
+ * comparing elements with the {@link StandardComparisonStrategy} without boxing them.
+ * <p>
+ * Like {@link Float#equals(Object)} and {@link Double#equals(Object)}, floats and doubles are read as their
+ * {@link Float#floatToIntBits(float)} and {@link Double#doubleToLongBits(double)} representations.
+ */
+final class PrimitiveArrayElements {
+
+  private final Object array;
+  private final IntToLongFunction keys;
+  private final int size;
+
+  private PrimitiveArrayElements(Object array) {
+    this.array = array;
+    this.keys = keysOf(array);
+    this.size = getLength(array);
+  }
+
+  /**
+   * Returns whether the elements of the given arrays can be compared without boxing them, that is when they are primitive
+   * arrays of the same type compared with the {@link StandardComparisonStrategy}.
+   *
+   * @param actual the actual array.
+   * @param values the array of values to compare to actual elements.
+   * @param comparisonStrategy the comparison strategy used to compare elements.
+   * @return whether the elements of the given arrays can be compared without boxing them.
+   */
+  static boolean canBeComparedUnboxed(Object actual, Object values, ComparisonStrategy comparisonStrategy) {
+    return comparisonStrategy == StandardComparisonStrategy.instance()
+           && actual.getClass() == values.getClass()
+           && actual.getClass().getComponentType().isPrimitive();
+  }
+
+  static PrimitiveArrayElements elementsOf(Object primitiveArray) {
+    return new PrimitiveArrayElements(primitiveArray);
+  }
+
+  /**
+   * Returns the boxed element at the given index, this is meant to report elements in error messages.
+   *
+   * @param index the index of the element.
+   * @return the boxed element.
+   */
+  Object elementAt(int index) {
+    return Array.get(array, index);
+  }
+
+  /**
+   * Counts how many times each element of this array occurs in the other array.
+   * <p>
+   * The other array is visited once and its elements are looked up in the sorted keys of this array.
+   *
+   * @param other the array to count elements in.
+   * @return the number of occurrences of each element of this array, indexed like this array.
+   */
+  int[] occurrencesIn(PrimitiveArrayElements other) {
+    long[] sortedKeys = sortedKeys();
+    int[] keyOccurrences = new int[sortedKeys.length];
+    for (int i = 0; i < other.size; i++) {
+      int keyIndex = Arrays.binarySearch(sortedKeys, other.keys.applyAsLong(i));
+      if (keyIndex >= 0) keyOccurrences[keyIndex]++;
+    }
+    int[] occurrences = new int[size];
+    for (int i = 0; i < size; i++) {
+      occurrences[i] = keyOccurrences[Arrays.binarySearch(sortedKeys, keys.applyAsLong(i))];
+    }
+    return occurrences;
+  }
+
+  /**
+   * Returns the elements of this array that the other array does not contain, boxing only these elements.
+   *
+   * @param other the array to look elements up in.
+   * @return the elements of this array that the other array does not contain.
+   */
+  List<Object> elementsNotIn(PrimitiveArrayElements other) {
+    long[] otherSortedKeys = other.sortedKeys();
+    List<Object> elementsNotInOther = new ArrayList<>();
+    for (int i = 0; i < size; i++) {
+      if (Arrays.binarySearch(otherSortedKeys, keys.applyAsLong(i)) < 0) elementsNotInOther.add(elementAt(i));
+    }
+    return elementsNotInOther;
+  }
+
+  private long[] sortedKeys() {
+    long[] sortedKeys = new long[size];
+    for (int i = 0; i < size; i++) {
+      sortedKeys[i] = keys.applyAsLong(i);
+    }
+    Arrays.sort(sortedKeys);
+    return sortedKeys;
+  }
+
+  private static IntToLongFunction keysOf(Object array) {
+    if (array instanceof int[]) {
+      int[] ints = (int[]) array;
+      return i -> ints[i];
+    }
+    if (array instanceof long[]) {
+      long[] longs = (long[]) array;
+      return i -> longs[i];
+    }
+    if (array instanceof double[]) {
+      double[] doubles = (double[]) array;
+      return i -> doubleToLongBits(doubles[i]);
+    }
+    if (array instanceof float[]) {
+      float[] floats = (float[]) array;
+      return i -> floatToIntBits(floats[i]);
+    }
+    if (array instanceof short[]) {
+      short[] shorts = (short[]) array;
+      return i -> shorts[i];
+    }
+    if (array instanceof byte[]) {
+      byte[] bytes = (byte[]) array;
+      return i -> bytes[i];
+    }
+    if (array instanceof char[]) {
+      char[] chars = (char[]) array;
+      return i -> chars[i];
+    }
+    if (array instanceof boolean[]) {
+      boolean[] booleans = (boolean[]) array;
+      return i -> booleans[i] ? 1 : 0;
+    }
+    throw new IllegalArgumentException(format("expecting %s to be a primitive array", array));
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+/**
+ * Looks for a sequence in elements visited one at a time, this never goes back to previous elements and thus works with
+ * singly-traversable iterables.
+ * <p>
+ * With the {@link StandardComparisonStrategy} the search uses the Knuth-Morris-Pratt algorithm which compares each visited
+ * element to a few sequence elements only. This algorithm relies on equality being transitive which comparators are not
+ * required to be (comparators with a precision are not for example), other comparison strategies compare the last visited
+ * elements to the whole sequence.
+ */
+final class SequenceSearch {
+
+  private final ComparisonStrategy comparisonStrategy;
+  private final Object[] sequence;
+  // Knuth-Morris-Pratt failure function: length of the longest proper prefix of sequence[0..i] that is also its suffix
+  private final int[] failure;
+  // the last visited elements, only used when the Knuth-Morris-Pratt algorithm can't be
+  private final Object[] window;
+  private int matchedLength;
+  private int visitedCount;
+
+  private SequenceSearch(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    this.comparisonStrategy = comparisonStrategy;
+    this.sequence = sequence;
+    boolean transitiveEquality = comparisonStrategy == StandardComparisonStrategy.instance();
+    this.failure = transitiveEquality ? failureFunctionOf(sequence) : null;
+    this.window = transitiveEquality ? null : new Object[sequence.length];
+  }
+
+  /**
+   * Creates a search of the given non empty sequence using the given comparison strategy to compare elements.
+   *
+   * @param sequence the sequence to look for.
+   * @param comparisonStrategy the comparison strategy to compare elements with.
+   * @return a new search.
+   */
+  static SequenceSearch searchFor(Object[] sequence, ComparisonStrategy comparisonStrategy) {
+    return new SequenceSearch(sequence, comparisonStrategy);
+  }
+
+  /**
+   * Visits the next element and returns whether the visited elements end with the sequence.
+   *
+   * @param element the next element.
+   * @return true if the sequence ends with the given element, false otherwise.
+   */
+  boolean visit(Object element) {
+    visitedCount++;
+    return failure != null ? visitWithFailureFunction(element) : visitWithWindow(element);
+  }
+
+  /**
+   * Returns the index of the first element of the last found sequence.
+   *
+   * @return the index of the first element of the last found sequence.
+   */
+  int sequenceStartIndex() {
+    return visitedCount - sequence.length;
+  }
+
+  private boolean visitWithFailureFunction(Object element) {
+    while (matchedLength > 0 && !areEqual(element, sequence[matchedLength])) {
+      matchedLength = failure[matchedLength - 1];
+    }
+    if (areEqual(element, sequence[matchedLength])) matchedLength++;
+    if (matchedLength < sequence.length) return false;
+    matchedLength = failure[matchedLength - 1];
+    return true;
+  }
+
+  private boolean visitWithWindow(Object element) {
+    // window is a circular buffer, the oldest element is the one the new element replaces
+    int oldestIndex = (visitedCount - 1) % window.length;
+    window[oldestIndex] = element;
+    if (visitedCount < window.length) return false;
+    for (int i = 0; i < sequence.length; i++) {
+      if (!areEqual(window[(oldestIndex + 1 + i) % window.length], sequence[i])) return false;
+    }
+    return true;
+  }
+
+  private int[] failureFunctionOf(Object[] sequence) {
+    int[] failureFunction = new int[sequence.length];
+    int prefixLength = 0;
+    for (int i = 1; i < sequence.length; i++) {
+      while (prefixLength > 0 && !areEqual(sequence[i], sequence[prefixLength])) {
+        prefixLength = failureFunction[prefixLength - 1];
+      }
+      if (areEqual(sequence[i], sequence[prefixLength])) prefixLength++;
+      failureFunction[i] = prefixLength;
+    }
+    return failureFunction;
+  }
+
+  private boolean areEqual(Object actual, Object other) {
+    return comparisonStrategy.areEqual(actual, other);
+  }
+
+}
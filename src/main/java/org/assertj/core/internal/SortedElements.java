@@ -0,0 +1,130 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * The elements of an iterable sorted with the comparator of a {@link ComparatorBasedComparisonStrategy} in order to look
+ * up values with a binary search instead of the strategy linear search.
+ * <p>
+ * This requires the comparator to define a total order which is not always the case, for example comparators only telling
+ * whether elements are equal usually return 0 or 1. The elements are thus only indexed when the comparator consistently
+ * orders them once sorted, otherwise the linear search must be used.
+ * <p>
+ * Consistently ordered sorted elements do not prove that the comparator defines a total order though, a value found by
+ * {@link #contains(Object)} is equal to an element but a value not found must be confirmed with the linear search unless
+ * {@link #consistentlyOrders(List)} the looked up values.
+ */
+final class SortedElements {
+
+  private final Object[] elements;
+  private final boolean containsNull;
+  private final Comparator<Object> comparator;
+
+  private SortedElements(Object[] elements, boolean containsNull, Comparator<Object> comparator) {
+    this.elements = elements;
+    this.containsNull = containsNull;
+    this.comparator = comparator;
+  }
+
+  /**
+   * Returns the given elements sorted with the given comparator or an empty Optional if the comparator does not
+   * consistently order them.
+   *
+   * @param iterable the elements to sort.
+   * @param comparator the comparator to sort the elements with.
+   * @return the sorted elements or an empty Optional if they can't be looked up with a binary search.
+   */
+  @SuppressWarnings("unchecked")
+  static Optional<SortedElements> sortedElementsOf(Iterable<?> iterable, Comparator<?> comparator) {
+    Comparator<Object> objectComparator = (Comparator<Object>) comparator;
+    // like ComparatorBasedComparisonStrategy.iterableContains, null elements are never compared
+    List<Object> nonNullElements = new ArrayList<>();
+    boolean containsNull = false;
+    for (Object element : iterable) {
+      if (element == null) containsNull = true;
+      else nonNullElements.add(element);
+    }
+    Object[] elements = nonNullElements.toArray();
+    try {
+      Arrays.sort(elements, objectComparator);
+      if (!isConsistentlyOrdered(elements, objectComparator)) return Optional.empty();
+    } catch (RuntimeException e) {
+      // elements can't be sorted with this comparator, ex: ClassCastException or inconsistent comparator detected when sorting
+      return Optional.empty();
+    }
+    return Optional.of(new SortedElements(elements, containsNull, objectComparator));
+  }
+
+  // checks that each sorted element compares as a total order would to itself and to the next two elements
+  private static boolean isConsistentlyOrdered(Object[] sortedElements, Comparator<Object> comparator) {
+    for (int i = 0; i < sortedElements.length; i++) {
+      if (comparator.compare(sortedElements[i], sortedElements[i]) != 0) return false;
+      if (i == 0) continue;
+      int comparison = comparator.compare(sortedElements[i - 1], sortedElements[i]);
+      int reverseComparison = comparator.compare(sortedElements[i], sortedElements[i - 1]);
+      if (comparison > 0 || Integer.signum(comparison) != -Integer.signum(reverseComparison)) return false;
+      if (i == 1) continue;
+      // transitivity: x <= y and y <= z gives x <= z, x and z being equal only if x, y and z are equal
+      boolean allEqual = comparison == 0 && comparator.compare(sortedElements[i - 2], sortedElements[i - 1]) == 0;
+      int transitiveComparison = comparator.compare(sortedElements[i - 2], sortedElements[i]);
+      if (allEqual ? transitiveComparison != 0 : transitiveComparison >= 0) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Returns whether the comparator consistently orders the elements and the given values sorted together, in which case
+   * the values not found by {@link #contains(Object)} are considered different from all the elements.
+   * <p>
+   * This detects comparators comparing the values inconsistently with the way they compare the elements, ex: a comparator
+   * telling that elements with the same name are equal and otherwise comparing their numbers misses C0 in [A1, B2, C3, D4]
+   * as C0 is lower than A1 while being equal to C3.
+   *
+   * @param values the values to look up.
+   * @return whether the values not found by the binary search are not in the elements.
+   */
+  boolean consistentlyOrders(List<?> values) {
+    List<Object> elementsAndValues = new ArrayList<>(elements.length + values.size());
+    elementsAndValues.addAll(Arrays.asList(elements));
+    for (Object value : values) {
+      if (value != null) elementsAndValues.add(value);
+    }
+    Object[] sortedElementsAndValues = elementsAndValues.toArray();
+    try {
+      Arrays.sort(sortedElementsAndValues, comparator);
+      return isConsistentlyOrdered(sortedElementsAndValues, comparator);
+    } catch (RuntimeException e) {
+      // values can't be compared to the elements, ex: ClassCastException
+      return false;
+    }
+  }
+
+  /**
+   * Returns whether the given value is equal to an element according to the binary search, false is only certain if the
+   * comparator {@link #consistentlyOrders(List)} the looked up values.
+   *
+   * @param value the value to look for.
+   * @return whether the binary search found the given value.
+   */
+  boolean contains(Object value) {
+    if (value == null) return containsNull;
+    return Arrays.binarySearch(elements, value, comparator) >= 0;
+  }
+
+}
@@ -32,6 +32,19 @@ import org.assertj.core.util.Streams;
 public class StandardComparisonStrategy extends AbstractComparisonStrategy {
 
   private static final StandardComparisonStrategy INSTANCE = new StandardComparisonStrategy();
+  // elements overriding equals but not hashCode can't be looked up in hash based collections, arrays are compared with deepEquals
+  private static final ClassValue<Boolean> HASHABLE_TYPES = new ClassValue<Boolean>() {
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      if (type.isArray()) return false;
+      try {
+        return type.getMethod("equals", Object.class).getDeclaringClass() == Object.class
+               || type.getMethod("hashCode").getDeclaringClass() != Object.class;
+      } catch (NoSuchMethodException | SecurityException e) {
+        return false;
+      }
+    }
+  };
 
   /**
    * Returns the singleton instance of this class.
@@ -60,6 +73,18 @@ public class StandardComparisonStrategy extends AbstractComparisonStrategy {
     });
   }
 
+  /**
+   * Returns whether the given value can be looked up in hash based collections with the same result as
+   * {@link #areEqual(Object, Object)}, that is whether it is not an array and has a hashCode method consistent with its
+   * equals method.
+   *
+   * @param value the value to check, may be null.
+   * @return whether the given value can be looked up in hash based collections.
+   */
+  static boolean isHashable(Object value) {
+    return value == null || HASHABLE_TYPES.get(value.getClass());
+  }
+
   @Override
   public String asText() {
     return "";
@@ -70,6 +70,9 @@ import static org.assertj.core.internal.CommonValidations.checkSameSizes;
 import static org.assertj.core.internal.CommonValidations.checkSizeBetween;
 import static org.assertj.core.internal.CommonValidations.checkSizes;
 import static org.assertj.core.internal.CommonValidations.hasSameSizeAsCheck;
+import static org.assertj.core.internal.NormalizedChars.ignoringWhitespace;
+import static org.assertj.core.internal.NormalizedChars.normalizingPunctuationAndWhitespace;
+import static org.assertj.core.internal.NormalizedChars.normalizingWhitespace;
 import static org.assertj.core.util.xml.XmlStringPrettyFormatter.xmlPrettyFormat;
 
 import java.io.IOException;
@@ -79,6 +82,7 @@ import java.util.Base64;
 import java.util.Comparator;
 import java.util.LinkedHashSet;
 import java.util.Set;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.regex.PatternSyntaxException;
@@ -103,6 +107,9 @@ public class Strings {
   @VisibleForTesting
   Failures failures = Failures.instance();
 
+  @VisibleForTesting
+  PatternCache patternCache = PatternCache.instance();
+
   /**
    * Returns the singleton instance of this class based on {@link StandardComparisonStrategy}.
    *
@@ -460,7 +467,7 @@ public class Strings {
    */
   public void assertContains(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> notFound = stream(values).filter(value -> !stringContains(actual, value))
+    Set<CharSequence> notFound = stream(values).filter(containedIn(actual, values).negate())
                                                .collect(toCollection(LinkedHashSet::new));
     if (notFound.isEmpty()) return;
     if (notFound.size() == 1 && values.length == 1) {
@@ -498,6 +505,14 @@ public class Strings {
     return comparisonStrategy.stringContains(actual.toString(), sequence.toString());
   }
 
+  // with the standard comparison strategy, all values are looked for in a single pass over actual
+  private Predicate<CharSequence> containedIn(CharSequence actual, CharSequence[] values) {
+    if (comparisonStrategy != StandardComparisonStrategy.instance() || values.length == 1)
+      return value -> stringContains(actual, value);
+    Set<String> foundValues = MultiStringSearch.searchFor(values).valuesFoundIn(actual);
+    return value -> foundValues.contains(value.toString());
+  }
+
   /**
    * Verifies that the given {@code CharSequence} contains the given sequence, ignoring case considerations.
    *
@@ -532,7 +547,9 @@ public class Strings {
     doCommonCheckForCharSequence(info, actual, values);
 
     String actualLowerCase = actual.toString().toLowerCase();
-    Set<CharSequence> foundValues = stream(values).filter(value -> actualLowerCase.contains(value.toString().toLowerCase()))
+    CharSequence[] valuesLowerCase = stream(values).map(value -> value.toString().toLowerCase()).toArray(CharSequence[]::new);
+    Set<String> foundValuesLowerCase = MultiStringSearch.searchFor(valuesLowerCase).valuesFoundIn(actualLowerCase);
+    Set<CharSequence> foundValues = stream(values).filter(value -> foundValuesLowerCase.contains(value.toString().toLowerCase()))
                                                   .collect(toCollection(LinkedHashSet::new));
     if (foundValues.isEmpty()) return;
     if (foundValues.size() == 1 && values.length == 1) {
@@ -555,7 +572,7 @@ public class Strings {
    */
   public void assertDoesNotContain(AssertionInfo info, CharSequence actual, CharSequence... values) {
     doCommonCheckForCharSequence(info, actual, values);
-    Set<CharSequence> found = stream(values).filter(value -> stringContains(actual, value))
+    Set<CharSequence> found = stream(values).filter(containedIn(actual, values))
                                             .collect(toCollection(LinkedHashSet::new));
     if (found.isEmpty()) return;
     if (found.size() == 1 && values.length == 1) {
@@ -648,19 +665,7 @@ public class Strings {
   private boolean areEqualIgnoringWhitespace(CharSequence actual, CharSequence expected) {
     if (actual == null) return expected == null;
     checkCharSequenceIsNotNull(expected);
-    return removeAllWhitespaces(actual).equals(removeAllWhitespaces(expected));
-  }
-
-  private String removeAllWhitespaces(CharSequence toBeStripped) {
-    final StringBuilder result = new StringBuilder(toBeStripped.length());
-    for (int i = 0; i < toBeStripped.length(); i++) {
-      char c = toBeStripped.charAt(i);
-      if (isWhitespace(c)) {
-        continue;
-      }
-      result.append(c);
-    }
-    return result.toString();
+    return ignoringWhitespace(actual).contentEquals(ignoringWhitespace(expected));
   }
 
   /**
@@ -675,10 +680,9 @@ public class Strings {
    */
   public void assertEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizedActual, normalizedExpected);
+    if (!areEqualNormalizingWhitespace(actual, expected))
+      throw failures.failure(info, shouldBeEqualNormalizingWhitespace(actual, expected), normalizeWhitespace(actual),
+                             normalizeWhitespace(expected));
   }
 
   /**
@@ -693,12 +697,16 @@ public class Strings {
    */
   public void assertNotEqualsNormalizingWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespace(actual);
-    String normalizedExpected = normalizeWhitespace(expected);
-    if (java.util.Objects.equals(normalizedActual, normalizedExpected))
+    if (areEqualNormalizingWhitespace(actual, expected))
       throw failures.failure(info, shouldNotBeEqualNormalizingWhitespace(actual, expected));
   }
 
+  // the normalized strings are only built when needed in the error message
+  private static boolean areEqualNormalizingWhitespace(CharSequence actual, CharSequence expected) {
+    if (actual == null || expected == null) return actual == expected;
+    return normalizingWhitespace(actual).contentEquals(normalizingWhitespace(expected));
+  }
+
   private static String normalizeWhitespace(CharSequence toNormalize) {
     if (toNormalize == null) return null;
     final StringBuilder result = new StringBuilder(toNormalize.length());
@@ -728,11 +736,14 @@ public class Strings {
    */
   public void assertEqualsNormalizingPunctuationAndWhitespace(AssertionInfo info, CharSequence actual, CharSequence expected) {
     if (actual != null) checkCharSequenceIsNotNull(expected);
-    String normalizedActual = normalizeWhitespaceAndPunctuation(actual);
-    String normalizedExpected = normalizeWhitespaceAndPunctuation(expected);
-    if (!java.util.Objects.equals(normalizedActual, normalizedExpected))
-      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected), normalizedActual,
-                             normalizedExpected);
+    if (!areEqualNormalizingPunctuationAndWhitespace(actual, expected))
+      throw failures.failure(info, shouldBeEqualNormalizingPunctuationAndWhitespace(actual, expected),
+                             normalizeWhitespaceAndPunctuation(actual), normalizeWhitespaceAndPunctuation(expected));
+  }
+
+  private static boolean areEqualNormalizingPunctuationAndWhitespace(CharSequence actual, CharSequence expected) {
+    if (actual == null || expected == null) return actual == expected;
+    return normalizingPunctuationAndWhitespace(actual).contentEquals(normalizingPunctuationAndWhitespace(expected));
   }
 
   private static String normalizeWhitespaceAndPunctuation(CharSequence toNormalize) {
@@ -871,7 +882,7 @@ public class Strings {
   public void assertMatches(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (!Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldMatch(actual, regex));
+    if (!patternCache.compile(regex.toString()).matcher(actual).matches()) throw failures.failure(info, shouldMatch(actual, regex));
   }
 
   /**
@@ -888,7 +899,7 @@ public class Strings {
   public void assertDoesNotMatch(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    if (Pattern.matches(regex.toString(), actual)) throw failures.failure(info, shouldNotMatch(actual, regex));
+    if (patternCache.compile(regex.toString()).matcher(actual).matches()) throw failures.failure(info, shouldNotMatch(actual, regex));
   }
 
   private void checkRegexIsNotNull(CharSequence regex) {
@@ -951,7 +962,7 @@ public class Strings {
   public void assertContainsSequence(AssertionInfo info, CharSequence actual, CharSequence[] sequence) {
     doCommonCheckForCharSequence(info, actual, sequence);
 
-    Set<CharSequence> notFound = stream(sequence).filter(value -> !stringContains(actual, value))
+    Set<CharSequence> notFound = stream(sequence).filter(containedIn(actual, sequence).negate())
                                                  .collect(toCollection(LinkedHashSet::new));
 
     if (!notFound.isEmpty()) {
@@ -988,7 +999,7 @@ public class Strings {
   public void assertContainsSubsequence(AssertionInfo info, CharSequence actual, CharSequence[] subsequence) {
     doCommonCheckForCharSequence(info, actual, subsequence);
 
-    Set<CharSequence> notFound = stream(subsequence).filter(value -> !stringContains(actual, value))
+    Set<CharSequence> notFound = stream(subsequence).filter(containedIn(actual, subsequence).negate())
                                                     .collect(toCollection(LinkedHashSet::new));
 
     if (!notFound.isEmpty()) {
@@ -1008,6 +1019,17 @@ public class Strings {
     // - remove up to "George" in "{ George Martin }" -> " Martin }", does it contain " " ?
     // - remove up to " " in " Martin }" -> "Martin }", does it contain "Martin" ?
     // ...
+    if (comparisonStrategy == StandardComparisonStrategy.instance()) {
+      // same greedy search without copying the rest of actual
+      String actualString = actual.toString();
+      int fromIndex = actualString.indexOf(subsequence[0].toString()) + subsequence[0].length();
+      for (int i = 1; i < subsequence.length; i++) {
+        int index = actualString.indexOf(subsequence[i].toString(), fromIndex);
+        if (index < 0) throw failures.failure(info, shouldContainSubsequence(actual, subsequence, i - 1, comparisonStrategy));
+        fromIndex = index + subsequence[i].length();
+      }
+      return;
+    }
     String actualRest = removeUpTo(actual.toString(), subsequence[0]);
     // check the subsequence second element since we already know the first is present
     for (int i = 1; i < subsequence.length; i++) {
@@ -1063,7 +1085,7 @@ public class Strings {
   public void assertContainsPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
     assertNotNull(info, actual);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = patternCache.compile(regex.toString());
     Matcher matcher = pattern.matcher(actual);
     if (!matcher.find()) throw failures.failure(info, shouldContainPattern(actual, pattern.pattern()));
   }
@@ -1098,7 +1120,7 @@ public class Strings {
    */
   public void assertDoesNotContainPattern(AssertionInfo info, CharSequence actual, CharSequence regex) {
     checkRegexIsNotNull(regex);
-    Pattern pattern = Pattern.compile(regex.toString());
+    Pattern pattern = patternCache.compile(regex.toString());
     assertDoesNotContainPattern(info, actual, pattern);
   }
 
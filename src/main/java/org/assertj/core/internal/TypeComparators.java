@@ -20,7 +20,9 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 
 import org.assertj.core.util.DoubleComparator;
@@ -53,6 +55,9 @@ public class TypeComparators {
 
   @VisibleForTesting
   Map<Class<?>, Comparator<?>> typeComparators;
+  // resolving the most relevant comparator of a type walks its hierarchy which is costly, the resolved comparator (or its
+  // absence) is thus cached per type until the registered comparators change.
+  private final Map<Class<?>, Optional<Comparator<?>>> resolvedComparatorByType = new ConcurrentHashMap<>();
 
   public static TypeComparators defaultTypeComparators() {
     TypeComparators comparatorByType = new TypeComparators();
@@ -77,6 +82,10 @@ public class TypeComparators {
    * @return the most relevant comparator, or {@code null} if no comparator could be found
    */
   public Comparator<?> get(Class<?> clazz) {
+    return resolvedComparatorByType.computeIfAbsent(clazz, type -> Optional.ofNullable(resolveComparator(type))).orElse(null);
+  }
+
+  private Comparator<?> resolveComparator(Class<?> clazz) {
     Comparator<?> comparator = typeComparators.get(clazz);
     if (comparator == null) {
       for (Class<?> superClass : ClassUtils.getAllSuperclasses(clazz)) {
@@ -106,6 +115,7 @@ public class TypeComparators {
    */
   public <T> void put(Class<T> clazz, Comparator<? super T> comparator) {
     typeComparators.put(clazz, comparator);
+    resolvedComparatorByType.clear();
   }
 
   /**
@@ -120,6 +130,7 @@ public class TypeComparators {
    */
   public void clear() {
     typeComparators.clear();
+    resolvedComparatorByType.clear();
   }
 
   public Stream<Entry<Class<?>, Comparator<?>>> comparatorByTypes() {
@@ -23,7 +23,6 @@ import static org.assertj.core.util.Arrays.notAnArrayOfPrimitives;
 import static org.assertj.core.util.DateUtil.formatAsDatetime;
 import static org.assertj.core.util.DateUtil.formatAsDatetimeWithMs;
 import static org.assertj.core.util.Preconditions.checkArgument;
-import static org.assertj.core.util.Streams.stream;
 import static org.assertj.core.util.Strings.concat;
 import static org.assertj.core.util.Strings.quote;
 import static org.assertj.core.util.Throwables.getStackTrace;
@@ -37,15 +36,19 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Date;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.RandomAccess;
 import java.util.TreeMap;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.ExecutionException;
@@ -61,6 +64,8 @@ import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import org.assertj.core.configuration.Configuration;
@@ -492,8 +497,8 @@ public class StandardRepresentation implements Representation {
 
   protected String formatPrimitiveArray(Object o) {
     if (!isArrayTypePrimitive(o)) throw notAnArrayOfPrimitives(o);
-    Object[] array = toObjectArray(o);
-    return format(array, DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, array);
+    // only box the elements that are displayed
+    return format(getLength(o), i -> get(o, i), DEFAULT_START, DEFAULT_END, ELEMENT_SEPARATOR, INDENTATION_FOR_SINGLE_LINE, o);
   }
 
   protected String multiLineFormat(Object[] array, Object root) {
@@ -507,8 +512,7 @@ public class StandardRepresentation implements Representation {
   protected String format(Object[] array, String start, String end, String elementSeparator, String indentation, Object root) {
     if (array == null) return null;
     // root is used to avoid infinite recursion in case one element refers to it.
-    List<String> representedElements = representElements(Stream.of(array), start, end, elementSeparator, indentation, root);
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    return format(array.length, i -> array[i], start, end, elementSeparator, indentation, root);
   }
 
   protected String format(Iterable<?> iterable, String start, String end, String elementSeparator, String indentation,
@@ -516,9 +520,40 @@ public class StandardRepresentation implements Representation {
     if (iterable == null) return null;
     Iterator<?> iterator = iterable.iterator();
     if (!iterator.hasNext()) return start + end;
+    if (iterable instanceof List && iterable instanceof RandomAccess) {
+      List<?> list = (List<?>) iterable;
+      return format(list.size(), list::get, start, end, elementSeparator, indentation, root);
+    }
+    // only keep the first and last elements to display, the other ones are not represented
+    int maxFirstElementsToPrint = maxFirstElementsToPrint();
+    List<Object> firstElements = new ArrayList<>(maxFirstElementsToPrint);
+    Deque<Object> lastElements = new ArrayDeque<>();
+    boolean elementsOmitted = false;
+    while (iterator.hasNext()) {
+      Object element = iterator.next();
+      if (firstElements.size() < maxFirstElementsToPrint) {
+        firstElements.add(element);
+        continue;
+      }
+      lastElements.addLast(element);
+      if (lastElements.size() > maxLastElementsToPrint()) {
+        lastElements.removeFirst();
+        elementsOmitted = true;
+      }
+    }
     // alreadyVisited is used to avoid infinite recursion when one element is a container already visited
-    List<String> representedElements = representElements(stream(iterable), start, end, elementSeparator, indentation, root);
-    return representGroup(representedElements, start, end, elementSeparator, indentation);
+    if (!elementsOmitted) {
+      firstElements.addAll(lastElements);
+      List<String> representedElements = representElements(firstElements.stream(), start, end, elementSeparator,
+                                                            indentation, root);
+      return representGroup(representedElements, start, end, elementSeparator, indentation);
+    }
+    List<String> representedFirstElements = representElements(firstElements.stream(), start, end, elementSeparator,
+                                                               indentation, root);
+    List<String> representedLastElements = representElements(lastElements.stream(), start, end, elementSeparator,
+                                                              indentation, root);
+    return representGroupWithOmittedElements(representedFirstElements, representedLastElements, start, end,
+                                             elementSeparator, indentation);
   }
 
   protected String safeStringOf(Object element, String start, String end, String elementSeparator, String indentation,
@@ -542,25 +577,44 @@ public class StandardRepresentation implements Representation {
                    .collect(toList());
   }
 
-  // this method only deals with max number of elements to display, the elements representation is already computed
+  // only represents the elements to display, ex: the first and last maxElementsForPrinting/2 elements of a large array
+  private String format(int size, IntFunction<Object> elementAt, String start, String end, String elementSeparator,
+                        String indentation, Object root) {
+    if (size <= maxElementsForPrinting) {
+      List<String> representedElements = representElements(IntStream.range(0, size).mapToObj(elementAt), start, end,
+                                                            elementSeparator, indentation, root);
+      return representGroup(representedElements, start, end, elementSeparator, indentation);
+    }
+    List<String> representedFirstElements = representElements(IntStream.range(0, maxFirstElementsToPrint())
+                                                                        .mapToObj(elementAt),
+                                                               start, end, elementSeparator, indentation, root);
+    List<String> representedLastElements = representElements(IntStream.range(size - maxLastElementsToPrint(), size)
+                                                                       .mapToObj(elementAt),
+                                                              start, end, elementSeparator, indentation, root);
+    return representGroupWithOmittedElements(representedFirstElements, representedLastElements, start, end,
+                                             elementSeparator, indentation);
+  }
+
+  // this method only deals with displaying all the elements, their representation is already computed
   private static String representGroup(List<String> representedElements, String start, String end, String elementSeparator,
                                        String indentation) {
     int size = representedElements.size();
     StringBuilder desc = new StringBuilder(start);
-    if (size <= maxElementsForPrinting) {
-      // display all elements
-      for (int i = 0; i < size; i++) {
-        if (i != 0) desc.append(indentation);
-        desc.append(representedElements.get(i));
-        if (i != size - 1) desc.append(elementSeparator);
-      }
-      return desc.append(end).toString();
+    for (int i = 0; i < size; i++) {
+      if (i != 0) desc.append(indentation);
+      desc.append(representedElements.get(i));
+      if (i != size - 1) desc.append(elementSeparator);
     }
-    // we can't display all elements, picks the first and last maxElementsForPrinting/2 elements
-    // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
-    int maxFirstElementsToPrint = (maxElementsForPrinting + 1) / 2;
-    for (int i = 0; i < maxFirstElementsToPrint; i++) {
-      desc.append(representedElements.get(i)).append(elementSeparator).append(indentation);
+    return desc.append(end).toString();
+  }
+
+  // we can't display all elements, displays the first and last maxElementsForPrinting/2 elements
+  private static String representGroupWithOmittedElements(List<String> representedFirstElements,
+                                                          List<String> representedLastElements, String start, String end,
+                                                          String elementSeparator, String indentation) {
+    StringBuilder desc = new StringBuilder(start);
+    for (String representedElement : representedFirstElements) {
+      desc.append(representedElement).append(elementSeparator).append(indentation);
     }
     desc.append(DEFAULT_MAX_ELEMENTS_EXCEEDED);
     // we only append a new line if the separator had one ",\n"
@@ -577,14 +631,22 @@ public class StandardRepresentation implements Representation {
       desc.append(System.lineSeparator());
     }
     // display last elements
-    int maxLastElementsToPrint = maxElementsForPrinting / 2;
-    for (int i = size - maxLastElementsToPrint; i < size; i++) {
-      if (i != size - maxLastElementsToPrint) desc.append(elementSeparator);
-      desc.append(indentation).append(representedElements.get(i));
+    for (int i = 0; i < representedLastElements.size(); i++) {
+      if (i != 0) desc.append(elementSeparator);
+      desc.append(indentation).append(representedLastElements.get(i));
     }
     return desc.append(end).toString();
   }
 
+  // if maxElementsForPrinting is odd, display one more first elements than last, ex: 9 => display 5 first elements and 4 last
+  private static int maxFirstElementsToPrint() {
+    return (maxElementsForPrinting + 1) / 2;
+  }
+
+  private static int maxLastElementsToPrint() {
+    return maxElementsForPrinting / 2;
+  }
+
   private String toStringOf(ChangeDelta<?> changeDelta) {
     return String.format("Changed content at line %s:%nexpecting:%n  %s%nbut was:%n  %s%n",
                          changeDelta.lineNumber(),
@@ -638,13 +700,4 @@ public class StandardRepresentation implements Representation {
     return o == map ? "(this Map)" : toStringOf(o);
   }
 
-  private static Object[] toObjectArray(Object o) {
-    int length = getLength(o);
-    Object[] array = new Object[length];
-    for (int i = 0; i < length; i++) {
-      array[i] = get(o, i);
-    }
-    return array;
-  }
-
 }
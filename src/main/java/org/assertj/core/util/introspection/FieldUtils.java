@@ -17,6 +17,9 @@ import static org.assertj.core.util.Preconditions.checkArgument;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Shameless copy from Apache commons lang and then modified to keep only the interesting stuff for AssertJ.
@@ -29,6 +32,16 @@ import java.lang.reflect.Modifier;
  */
 class FieldUtils {
 
+  // field lookups are cached per class and name including negative results (i.e. absence of field), Optional allows
+  // caching 'missing' values as ConcurrentHashMap does not permit nulls. Unlike a static map, a ClassValue does not keep
+  // the classes and their class loaders from being unloaded.
+  private static final ClassValue<Map<String, Optional<Field>>> FIELDS_BY_CLASS = new ClassValue<Map<String, Optional<Field>>>() {
+    @Override
+    protected Map<String, Optional<Field>> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
+
   /**
    * Gets an accessible <code>Field</code> by name breaking scope if requested. Superclasses/interfaces will be
    * considered.
@@ -44,6 +57,14 @@ class FieldUtils {
   static Field getField(final Class<?> cls, String fieldName, boolean forceAccess) throws IllegalAccessException {
     checkArgument(cls != null, "The class must not be null");
     checkArgument(fieldName != null, "The field name must not be null");
+    Field field = FIELDS_BY_CLASS.get(cls).computeIfAbsent(fieldName, name -> findField(cls, name)).orElse(null);
+    // getDeclaredField checks for non-public scopes as well and it returns accurate results
+    if (field != null && !Modifier.isPublic(field.getModifiers()) && !forceAccess)
+      throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
+    return field;
+  }
+
+  private static Optional<Field> findField(Class<?> cls, String fieldName) {
     // Sun Java 1.3 has a bugged implementation of getField hence we write the
     // code ourselves
 
@@ -60,16 +81,7 @@ class FieldUtils {
     // check up the superclass hierarchy
     for (Class<?> acls = cls; acls != null; acls = acls.getSuperclass()) {
       try {
-        Field field = acls.getDeclaredField(fieldName);
-        // getDeclaredField checks for non-public scopes as well and it returns accurate results
-        if (!Modifier.isPublic(field.getModifiers())) {
-          if (forceAccess) {
-            field.setAccessible(true);
-          } else {
-            throw new IllegalAccessException("can not access" + fieldName + " because it is not public");
-          }
-        }
-        return field;
+        return Optional.of(accessible(acls.getDeclaredField(fieldName)));
       } catch (NoSuchFieldException ex) { // NOPMD
         // ignore
       }
@@ -88,7 +100,18 @@ class FieldUtils {
         // ignore
       }
     }
-    return match;
+    return Optional.ofNullable(match);
+  }
+
+  // cached fields are shared, non-public fields are made accessible once when they are found
+  private static Field accessible(Field field) {
+    if (Modifier.isPublic(field.getModifiers())) return field;
+    try {
+      field.setAccessible(true);
+    } catch (RuntimeException e) {
+      // can't make the field accessible (ex: module restrictions), reading it reports the error
+    }
+    return field;
   }
 
   /**
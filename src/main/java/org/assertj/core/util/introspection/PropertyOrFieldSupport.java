@@ -13,16 +13,32 @@
 package org.assertj.core.util.introspection;
 
 import static java.lang.String.format;
+import static java.lang.reflect.Modifier.isStatic;
 import static org.assertj.core.util.Preconditions.checkArgument;
+import static org.assertj.core.util.introspection.Introspection.canIntrospectExtractBareNamePropertyMethods;
+import static org.assertj.core.util.introspection.Introspection.findPublicPropertyGetter;
 
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.assertj.core.util.VisibleForTesting;
 
 public class PropertyOrFieldSupport {
   private static final String SEPARATOR = ".";
+  // returned by accessors that could not read the value, the value is then read the slow way which reports errors.
+  private static final Object UNREAD_VALUE = new Object();
   private PropertySupport propertySupport;
   private FieldSupport fieldSupport;
+  // how to read a property or field is resolved once per class and name, this avoids creating introspection errors for
+  // each value read when the value is not read with the first tried way (ex: a field without getter).
+  private final ClassValue<Map<String, Accessor>> accessorsByClass = new ClassValue<Map<String, Accessor>>() {
+    @Override
+    protected Map<String, Accessor> computeValue(Class<?> type) {
+      return new ConcurrentHashMap<>();
+    }
+  };
 
   public static final PropertyOrFieldSupport EXTRACTION = new PropertyOrFieldSupport();
   public static final PropertyOrFieldSupport COMPARISON = new PropertyOrFieldSupport(PropertySupport.instance(),
@@ -61,6 +77,51 @@ public class PropertyOrFieldSupport {
   }
 
   public Object getSimpleValue(String name, Object input) {
+    Object value = accessorOf(name, input.getClass()).read(name, input);
+    return value != UNREAD_VALUE ? value : readSimpleValue(name, input);
+  }
+
+  private Accessor accessorOf(String name, Class<?> type) {
+    Map<String, Accessor> accessors = accessorsByClass.get(type);
+    Accessor accessor = accessors.computeIfAbsent(name, key -> resolveAccessor(key, type));
+    if (accessor.isUpToDate()) return accessor;
+    // global introspection settings have changed since the accessor was resolved
+    accessor = resolveAccessor(name, type);
+    accessors.put(name, accessor);
+    return accessor;
+  }
+
+  // same resolution order as readSimpleValue: property getter, field and then map key
+  private Accessor resolveAccessor(String name, Class<?> type) {
+    Method getter = findPublicPropertyGetter(name, type);
+    if (getter != null) return new Accessor(accessible(getter), null, false);
+    return new Accessor(null, readableField(name, type), Map.class.isAssignableFrom(type));
+  }
+
+  private static Method accessible(Method getter) {
+    try {
+      // force access for static class with public getter
+      getter.setAccessible(true);
+      return getter;
+    } catch (RuntimeException e) {
+      // can't access the getter (ex: module restrictions), let readSimpleValue report the error
+      return null;
+    }
+  }
+
+  private Field readableField(String name, Class<?> type) {
+    try {
+      Field field = FieldUtils.getField(type, name, fieldSupport.isAllowedToUsePrivateFields());
+      if (field == null || isStatic(field.getModifiers()) || field.isSynthetic()) return null;
+      MemberUtils.setAccessibleWorkaround(field);
+      return field;
+    } catch (RuntimeException | IllegalAccessException e) {
+      // the field can't be read, let readSimpleValue report the error
+      return null;
+    }
+  }
+
+  private Object readSimpleValue(String name, Object input) {
     // try to get name as a property, then try as a field, then try as a map key
     try {
       return propertySupport.propertyValueOf(name, Object.class, input);
@@ -90,6 +151,41 @@ public class PropertyOrFieldSupport {
     }
   }
 
+  private final class Accessor {
+
+    private final Method getter;
+    private final Field field;
+    private final boolean mapKey;
+    // introspection settings used to resolve the accessor
+    private final boolean bareNamePropertyMethods;
+    private final boolean allowUsingPrivateFields;
+
+    private Accessor(Method getter, Field field, boolean mapKey) {
+      this.getter = getter;
+      this.field = field;
+      this.mapKey = mapKey;
+      this.bareNamePropertyMethods = canIntrospectExtractBareNamePropertyMethods();
+      this.allowUsingPrivateFields = fieldSupport.isAllowedToUsePrivateFields();
+    }
+
+    private boolean isUpToDate() {
+      return bareNamePropertyMethods == canIntrospectExtractBareNamePropertyMethods()
+             && allowUsingPrivateFields == fieldSupport.isAllowedToUsePrivateFields();
+    }
+
+    private Object read(String name, Object input) {
+      try {
+        if (getter != null) return getter.invoke(input);
+        if (field != null) return field.get(input);
+      } catch (Exception e) {
+        // a failing getter might be read as a field, let readSimpleValue do it and report the errors if any
+        return UNREAD_VALUE;
+      }
+      return mapKey ? ((Map<?, ?>) input).get(name) : UNREAD_VALUE;
+    }
+
+  }
+
   private String popNameFrom(String propertyOrFieldNameChain) {
     if (!isNested(propertyOrFieldNameChain)) return propertyOrFieldNameChain;
     return propertyOrFieldNameChain.substring(0, propertyOrFieldNameChain.indexOf(SEPARATOR));
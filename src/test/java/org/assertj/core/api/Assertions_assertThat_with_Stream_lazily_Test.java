@@ -0,0 +1,147 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class Assertions_assertThat_with_Stream_lazily_Test {
+
+  @Test
+  void should_pass_on_large_streams() {
+    assertThat(IntStream.range(0, 1_000_000)).lazily().hasSize(1_000_000);
+    assertThat(LongStream.range(0, 1_000_000)).lazily().isSorted();
+    assertThat(IntStream.range(0, 1_000_000)).lazily().contains(0, 500_000, 999_999);
+    assertThat(IntStream.range(0, 1_000_000)).lazily().allMatch(i -> i >= 0);
+    assertThat(IntStream.range(0, 1_000_000)).lazily().noneMatch(i -> i < 0);
+  }
+
+  @Test
+  void should_stop_visiting_the_stream_once_the_assertion_outcome_is_known() {
+    assertThat(Stream.iterate(1, i -> i + 1)).lazily().startsWith(1, 2, 3);
+    assertThat(Stream.iterate(1, i -> i + 1)).lazily().anyMatch(i -> i > 1_000);
+    assertThat(Stream.iterate(1, i -> i + 1)).lazily().contains(1_000, 10);
+    expectAssertionError(() -> assertThat(Stream.iterate(1, i -> i + 1)).lazily().allMatch(i -> i < 1_000));
+    expectAssertionError(() -> assertThat(Stream.iterate(1, i -> i + 1)).lazily().noneMatch(i -> i > 1_000));
+    expectAssertionError(() -> assertThat(Stream.iterate(1, i -> (i + 1) % 10)).lazily().doesNotHaveDuplicates());
+    expectAssertionError(() -> assertThat(Stream.iterate(1, i -> (i + 1) % 10)).lazily().isSorted());
+  }
+
+  @Test
+  void should_report_the_first_element_not_matching_the_predicate() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of("a", "bb", "ccc")).lazily()
+                                                                                                     .allMatch(s -> s.length() == 1,
+                                                                                                               "single character"));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting all elements of:%n" +
+                                           "  <\"Stream under test\">%n" +
+                                           "to match 'single character' predicate but this element did not:%n" +
+                                           "  <\"bb\">"));
+  }
+
+  @Test
+  void should_report_values_not_found() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of("a", "b")).lazily().contains("b", "c"));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting Stream under test to contain:%n" +
+                                           " <[\"b\", \"c\"]>%n" +
+                                           "but could not find the following element(s):%n" +
+                                           " <[\"c\"]>%n"));
+  }
+
+  @Test
+  void should_report_the_first_elements_not_in_order() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of(1, 2, 4, 3, 0)).lazily().isSorted());
+    // THEN
+    then(assertionError).hasMessage(format("%ngroup is not sorted because element 2:%n" +
+                                           " <4>%n" +
+                                           "is not less or equal than element 3:%n" +
+                                           " <3>%n" +
+                                           "group was:%n" +
+                                           " <\"Stream under test\">"));
+  }
+
+  @Test
+  void should_report_the_stream_size() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(Stream.of("a", "b")).lazily().hasSize(3));
+    // THEN
+    then(assertionError).hasMessageContaining("Expected size:<3> but was:<2>");
+  }
+
+  @Test
+  void should_use_element_comparator() {
+    assertThat(Stream.of("a", "B", "c")).usingElementComparator(CaseInsensitiveStringComparator.instance)
+                                        .lazily()
+                                        .isSorted();
+    assertThat(Stream.of("a", "B", "c")).usingElementComparator(CaseInsensitiveStringComparator.instance)
+                                        .lazily()
+                                        .contains("A", "b");
+    expectAssertionError(() -> assertThat(Stream.of("a", "B", "A")).usingElementComparator(CaseInsensitiveStringComparator.instance)
+                                                                   .lazily()
+                                                                   .doesNotHaveDuplicates());
+  }
+
+  @Test
+  void should_fail_when_chaining_assertions() {
+    // GIVEN
+    LazyStreamAssert<Integer> lazyAssert = assertThat(Stream.of(1, 2, 3)).lazily().contains(1);
+    // WHEN
+    Throwable throwable = catchThrowable(() -> lazyAssert.hasSize(3));
+    // THEN
+    then(throwable).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void should_close_the_stream() {
+    // GIVEN
+    AtomicBoolean closed = new AtomicBoolean();
+    IntStream stream = IntStream.of(1, 2, 3).onClose(() -> closed.set(true));
+    // WHEN
+    assertThat(stream).lazily().hasSize(3);
+    // THEN
+    then(closed).isTrue();
+  }
+
+  @Test
+  void should_not_collect_the_stream_elements() {
+    // GIVEN
+    AtomicInteger visited = new AtomicInteger();
+    Stream<Integer> stream = Stream.of(1, 2, 3, 4).peek(i -> visited.incrementAndGet());
+    // WHEN
+    assertThat(stream).lazily().startsWith(1, 2);
+    // THEN
+    then(visited).hasValue(2);
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    expectAssertionError(() -> assertThat((Stream<String>) null).lazily().hasSize(0));
+  }
+
+}
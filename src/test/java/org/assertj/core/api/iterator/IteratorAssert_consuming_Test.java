@@ -0,0 +1,163 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.iterator;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.FailureMessages.actualIsNull;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.AbstractIteratorAssert;
+import org.assertj.core.api.ConsumingIteratorAssert;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link AbstractIteratorAssert#consuming()}</code>.
+ */
+class IteratorAssert_consuming_Test {
+
+  @Test
+  void should_pass_on_large_iterators() {
+    assertThat(IntStream.range(0, 1_000_000).iterator()).consuming().isSorted();
+    assertThat(IntStream.range(0, 1_000_000).iterator()).consuming().allSatisfy(i -> assertThat(i).isNotNegative());
+    assertThat(IntStream.range(0, 1_000_000).iterator()).consuming().containsSubsequence(0, 500_000, 999_999);
+  }
+
+  @Test
+  void should_stop_consuming_the_iterator_once_the_assertion_outcome_is_known() {
+    assertThat(infiniteIterator()).consuming().startsWith(1, 2, 3);
+    assertThat(infiniteIterator()).consuming().containsSubsequence(10, 1_000);
+    assertThat(infiniteIterator()).consuming().anySatisfy(i -> assertThat(i).isGreaterThan(1_000));
+    assertThat(infiniteIterator()).consuming().elementAt(1_000).isEqualTo(1_001);
+    expectAssertionError(() -> assertThat(infiniteIterator()).consuming().allSatisfy(i -> assertThat(i).isLessThan(1_000)));
+    expectAssertionError(() -> assertThat(infiniteIterator()).consuming().hasSizeLessThan(1_000));
+    expectAssertionError(() -> assertThat(Stream.iterate(1, i -> (i + 1) % 10).iterator()).consuming().isSorted());
+  }
+
+  @Test
+  void should_only_consume_the_elements_needed() {
+    // GIVEN
+    Iterator<String> iterator = list("a", "b", "c", "d").iterator();
+    // WHEN
+    assertThat(iterator).consuming().elementAt(1).isEqualTo("b");
+    // THEN
+    then(iterator.next()).isEqualTo("c");
+  }
+
+  @Test
+  void should_report_the_first_element_not_satisfying_the_requirements() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(list("a", "bb", "ccc").iterator()).consuming()
+                                                                                                            .allSatisfy(s -> assertThat(s).hasSize(1)));
+    // THEN
+    then(assertionError).hasMessageStartingWith(format("%nExpecting all elements of:%n" +
+                                                       "  <\"Iterator under test\">%n" +
+                                                       "to satisfy given requirements, but these elements did not:%n%n" +
+                                                       "  <\"bb\">%n"));
+  }
+
+  @Test
+  void should_report_the_first_element_not_satisfying_the_requirements_if_none_does() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(list("a", "b").iterator()).consuming()
+                                                                                                    .anySatisfy(s -> assertThat(s).hasSize(2)));
+    // THEN
+    then(assertionError).hasMessageStartingWith(format("%nExpecting any element of:%n" +
+                                                       "  <\"Iterator under test\">%n" +
+                                                       "to satisfy the given assertions requirements but none did:%n%n" +
+                                                       "  <\"a\">%n"));
+  }
+
+  @Test
+  void should_report_the_first_elements_not_in_order() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(list(1, 2, 4, 3, 0).iterator()).consuming().isSorted());
+    // THEN
+    then(assertionError).hasMessage(format("%ngroup is not sorted because element 2:%n" +
+                                           " <4>%n" +
+                                           "is not less or equal than element 3:%n" +
+                                           " <3>%n" +
+                                           "group was:%n" +
+                                           " <\"Iterator under test\">"));
+  }
+
+  @Test
+  void should_report_the_size_reached() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(infiniteIterator()).consuming().hasSizeLessThan(3));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting size of:%n" +
+                                           "  <\"Iterator under test\">%n" +
+                                           "to be less than 3 but had at least 3 elements"));
+  }
+
+  @Test
+  void should_fail_if_there_is_no_element_at_the_given_index() {
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(list("a", "b").iterator()).consuming().elementAt(2));
+    // THEN
+    then(assertionError).hasMessage(format("%nExpecting size of:%n" +
+                                           "  <\"Iterator under test\">%n" +
+                                           "to be greater than 2 but was 2"));
+  }
+
+  @Test
+  void should_pass_if_the_remaining_elements_match() {
+    assertThat(list(1, 2, 3).iterator()).consuming().hasSizeLessThan(4);
+    assertThat(list(1, 2, 3).iterator()).consuming().startsWith(1, 2);
+    assertThat(list(1, 2, 3).iterator()).consuming().containsSubsequence(1, 3);
+    assertThat(list(1, 2, 2, 3).iterator()).consuming().isSorted();
+  }
+
+  @Test
+  void should_fail_if_the_remaining_elements_do_not_match() {
+    expectAssertionError(() -> assertThat(list(1, 2, 3).iterator()).consuming().hasSizeLessThan(3));
+    expectAssertionError(() -> assertThat(list(1, 2, 3).iterator()).consuming().startsWith(2, 3));
+    expectAssertionError(() -> assertThat(list(1, 2, 3).iterator()).consuming().startsWith(1, 2, 3, 4));
+    expectAssertionError(() -> assertThat(list(1, 2, 3).iterator()).consuming().containsSubsequence(3, 1));
+  }
+
+  @Test
+  void should_fail_when_chaining_assertions() {
+    // GIVEN
+    ConsumingIteratorAssert<Integer> consumingAssert = assertThat(list(1, 2, 3).iterator()).consuming().startsWith(1);
+    // WHEN
+    Throwable throwable = catchThrowable(() -> consumingAssert.isSorted());
+    // THEN
+    then(throwable).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  void should_fail_if_actual_is_null() {
+    // GIVEN
+    Iterator<Integer> iterator = null;
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(iterator).consuming().isSorted());
+    // THEN
+    then(assertionError).hasMessage(actualIsNull());
+  }
+
+  private static Iterator<Integer> infiniteIterator() {
+    AtomicInteger counter = new AtomicInteger();
+    return Stream.generate(counter::incrementAndGet).iterator();
+  }
+
+}
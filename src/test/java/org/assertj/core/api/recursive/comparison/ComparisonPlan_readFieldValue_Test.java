@@ -0,0 +1,119 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.comparisonPlanOf;
+import static org.assertj.core.api.recursive.comparison.ComparisonPlan.readFieldValue;
+import static org.assertj.core.util.introspection.Introspection.setExtractBareNamePropertyMethods;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ComparisonPlan readFieldValue")
+class ComparisonPlan_readFieldValue_Test {
+
+  @AfterEach
+  void afterEachTest() {
+    // restore default value
+    setExtractBareNamePropertyMethods(true);
+  }
+
+  @Test
+  void should_cache_comparison_plans_per_class() {
+    then(comparisonPlanOf(Bean.class)).isSameAs(comparisonPlanOf(Bean.class));
+    then(comparisonPlanOf(Bean.class).getFieldNames()).containsOnly("name", "age", "failing");
+  }
+
+  @Test
+  void should_read_field_value_with_property_getter_first() {
+    // WHEN
+    Object name = readFieldValue("name", new Bean());
+    // THEN
+    then(name).isEqualTo("name from getter");
+  }
+
+  @Test
+  void should_read_private_field_value_when_there_is_no_getter() {
+    // WHEN
+    Object age = readFieldValue("age", new Bean());
+    // THEN
+    then(age).isEqualTo(42);
+  }
+
+  @Test
+  void should_read_field_value_when_property_getter_fails() {
+    // WHEN
+    Object failing = readFieldValue("failing", new Bean());
+    // THEN
+    then(failing).isEqualTo("failing field");
+  }
+
+  @Test
+  void should_propagate_errors_thrown_by_property_getter() {
+    // GIVEN
+    ErrorBean bean = new ErrorBean();
+    // WHEN
+    Throwable thrown = catchThrowable(() -> readFieldValue("name", bean));
+    // THEN
+    then(thrown).isInstanceOf(StackOverflowError.class);
+    then(bean.getterCalls).isEqualTo(1);
+  }
+
+  @Test
+  void should_resolve_again_field_readers_when_introspection_settings_change() {
+    // GIVEN
+    setExtractBareNamePropertyMethods(true);
+    BareNameBean bean = new BareNameBean();
+    then(readFieldValue("name", bean)).isEqualTo("name from bare name getter");
+    // WHEN
+    setExtractBareNamePropertyMethods(false);
+    // THEN
+    then(readFieldValue("name", bean)).isEqualTo("name field");
+  }
+
+  static class Bean {
+    private String name = "name field";
+    private int age = 42;
+    private String failing = "failing field";
+
+    public String getName() {
+      return "name from getter";
+    }
+
+    public String getFailing() {
+      throw new IllegalStateException("boom");
+    }
+  }
+
+  static class ErrorBean {
+    private String name = "name field";
+    private int getterCalls;
+
+    public String getName() {
+      getterCalls++;
+      throw new StackOverflowError();
+    }
+  }
+
+  static class BareNameBean {
+    private String name = "name field";
+
+    public String name() {
+      return "name from bare name getter";
+    }
+  }
+
+}
@@ -99,6 +99,26 @@ class DualValueDequeTest {
                                          dualValueD, dualValueE, dualValueA, dualValueB, dualValueC);
   }
 
+  @Test
+  void should_remove_visited_dual_values_as_many_times_as_they_were_visited() {
+    // GIVEN
+    DualValueDeque dualValueDeque = new DualValueDeque(recursiveComparisonConfiguration);
+    DualValue dualValueA = dualValue("A", "A");
+    DualValue dualValueB = dualValue("B", "B");
+    DualValue dualValueC = dualValue("C", "C");
+    // same actual and expected references as dualValueA
+    DualValue dualValueA2 = new DualValue(randomPath(), dualValueA.actual, dualValueA.expected);
+    dualValueDeque.addAll(list(dualValueA, dualValueB, dualValueA2, dualValueC, dualValueA, dualValueB));
+    VisitedDualValues visitedDualValues = new VisitedDualValues();
+    visitedDualValues.registerVisitedDualValue(dualValueA);
+    visitedDualValues.registerVisitedDualValue(dualValueA2);
+    visitedDualValues.registerVisitedDualValue(dualValueB);
+    // WHEN
+    dualValueDeque.removeVisitedDualValues(visitedDualValues);
+    // THEN
+    then(dualValueDeque).containsExactly(dualValueC, dualValueA, dualValueB);
+  }
+
   private static DualValue dualValue(String value1, String value2) {
     return new DualValue(randomPath(), value1, value2);
   }
@@ -0,0 +1,150 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.recursive.comparison.Color.BLUE;
+import static org.assertj.core.api.recursive.comparison.Color.GREEN;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.internal.objects.data.Person;
+import org.assertj.core.internal.objects.data.PersonDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ElementFingerprinter fingerprintsOf")
+class ElementFingerprinter_fingerprintsOf_Test {
+
+  private static final FieldLocation ELEMENTS_LOCATION = new FieldLocation(list("people"));
+
+  private RecursiveComparisonConfiguration recursiveComparisonConfiguration;
+
+  @BeforeEach
+  void beforeEachTest() {
+    recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+  }
+
+  @Test
+  void should_compute_the_same_fingerprint_for_elements_with_the_same_leaf_fields() {
+    // GIVEN
+    Person actual = new Person("Sheldon");
+    Person expected = new Person("Sheldon");
+    Person other = new Person("Leonard");
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list(actual), list(expected, other));
+    // THEN
+    then(fingerprints).hasValueSatisfying(values -> {
+      then(values.get(0)).isEqualTo(values.get(1));
+      then(values.get(0)).isNotEqualTo(values.get(2));
+    });
+  }
+
+  @Test
+  void should_not_take_ignored_fields_into_account() {
+    // GIVEN
+    recursiveComparisonConfiguration.ignoreFields("people.name");
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list(new Person("Sheldon")), list(new Person("Leonard")));
+    // THEN
+    then(fingerprints).hasValueSatisfying(values -> then(values.get(0)).isEqualTo(values.get(1)));
+  }
+
+  @Test
+  void should_not_take_fields_with_a_custom_comparator_into_account() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForFields(String.CASE_INSENSITIVE_ORDER, "people.name");
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list(new Person("Sheldon")), list(new Person("SHELDON")));
+    // THEN
+    then(fingerprints).hasValueSatisfying(values -> then(values.get(0)).isEqualTo(values.get(1)));
+  }
+
+  @Test
+  void should_compute_fingerprints_of_leaf_elements() {
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list("a", GREEN, null), list(null, GREEN, "a", BLUE));
+    // THEN
+    then(fingerprints).hasValueSatisfying(values -> then(values).containsExactly("a".hashCode(), "GREEN".hashCode(), 0,
+                                                                                 0, "GREEN".hashCode(), "a".hashCode(),
+                                                                                 "BLUE".hashCode()));
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_elements_have_a_custom_comparator() {
+    // GIVEN
+    recursiveComparisonConfiguration.registerComparatorForType(String.CASE_INSENSITIVE_ORDER, String.class);
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list("a"), list("A"));
+    // THEN
+    then(fingerprints).isEmpty();
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_elements_are_compared_field_by_field_and_have_different_types() {
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list(new Person("Sheldon")), list(new PersonDto("Sheldon")));
+    // THEN
+    then(fingerprints).isEmpty();
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_leaf_elements_are_mixed_with_elements_compared_field_by_field() {
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list(new Person("Sheldon")), list("Sheldon"));
+    // THEN
+    then(fingerprints).isEmpty();
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_fields_are_ignored_based_on_their_value() {
+    // GIVEN
+    recursiveComparisonConfiguration.setIgnoreAllActualNullFields(true);
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list(new Person("Sheldon")), list(new Person("Sheldon")));
+    // THEN
+    then(fingerprints).isEmpty();
+  }
+
+  @Test
+  void should_not_compute_fingerprints_when_elements_are_compared_with_their_equals_method() {
+    // GIVEN
+    recursiveComparisonConfiguration.useOverriddenEquals();
+    // WHEN
+    Optional<List<Integer>> fingerprints = fingerprintsOf(list(new AlwaysEqual()), list(new AlwaysEqual()));
+    // THEN
+    then(fingerprints).isEmpty();
+  }
+
+  private Optional<List<Integer>> fingerprintsOf(List<?> actual, List<?> expected) {
+    return new ElementFingerprinter(ELEMENTS_LOCATION, recursiveComparisonConfiguration).fingerprintsOf(actual, expected);
+  }
+
+  static class AlwaysEqual {
+    String name = "" + Math.random();
+
+    @Override
+    public boolean equals(Object obj) {
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      return name.hashCode();
+    }
+  }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+import static org.assertj.core.util.Sets.newLinkedHashSet;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Set;
+
+import org.assertj.core.api.RecursiveComparisonAssert_isEqualTo_BaseTest;
+import org.assertj.core.internal.objects.data.Person;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RecursiveComparisonAssert_isEqualTo_withMaxDifferences_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_stop_the_comparison_after_the_given_number_of_differences() {
+    // GIVEN
+    Person actual = person("Sherlock", 221, new Date(1854));
+    Person expected = person("Moriarty", 1, new Date(1891));
+    recursiveComparisonConfiguration.setMaxDifferences(2);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                               recursiveComparisonConfiguration);
+    // THEN
+    then(differences).hasSize(2);
+  }
+
+  @Test
+  void should_report_all_differences_when_there_are_less_than_the_given_number_of_differences() {
+    // GIVEN
+    Person actual = person("Sherlock", 221, new Date(1854));
+    Person expected = person("Moriarty", 1, new Date(1891));
+    recursiveComparisonConfiguration.setMaxDifferences(10);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                               recursiveComparisonConfiguration);
+    // THEN
+    then(differences).extracting(difference -> difference.concatenatedPath)
+                     .containsExactly("dateOfBirth", "home.address.number", "name");
+  }
+
+  @Test
+  void should_report_that_the_comparison_has_stopped() {
+    // GIVEN
+    Person actual = person("Sherlock", 221, new Date(1854));
+    Person expected = person("Moriarty", 1, new Date(1891));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withMaxDifferences(1)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("but found the following difference:%n"
+                                                     + "(the comparison has stopped after finding them, other differences might exist)%n"))
+                        .hasMessageContaining(format("- the comparison stops after finding 1 difference(s).%n"));
+  }
+
+  @Test
+  void should_not_report_that_the_comparison_has_stopped_when_it_found_less_than_the_given_number_of_differences() {
+    // GIVEN
+    Person actual = person("Sherlock", 221, new Date(1854));
+    Person expected = person("Moriarty", 1, new Date(1891));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withMaxDifferences(10)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("but found the following 3 differences:%n%n"))
+                        .hasMessageNotContaining("the comparison has stopped")
+                        .hasMessageContaining(format("- the comparison stops after finding 10 difference(s).%n"));
+  }
+
+  @Test
+  void should_not_report_that_the_comparison_has_stopped_when_it_found_exactly_the_given_number_of_differences() {
+    // GIVEN
+    Person actual = person("Sherlock", 221, new Date(1854));
+    Person expected = person("Moriarty", 1, new Date(1891));
+    // WHEN
+    AssertionError assertionError = expectAssertionError(() -> assertThat(actual).usingRecursiveComparison()
+                                                                                 .withMaxDifferences(3)
+                                                                                 .isEqualTo(expected));
+    // THEN
+    then(assertionError).hasMessageContaining(format("but found the following 3 differences:%n%n"))
+                        .hasMessageNotContaining("the comparison has stopped");
+  }
+
+  @ParameterizedTest(name = "parallelism {0}")
+  @ValueSource(ints = { 1, 4 })
+  void should_tell_whether_the_comparison_has_stopped_before_the_end(int parallelism) {
+    // GIVEN
+    Person actual = person("Sherlock", 221, new Date(1854));
+    Person expected = person("Moriarty", 1, new Date(1891));
+    recursiveComparisonConfiguration.setParallelism(parallelism);
+    RecursiveComparisonDifferenceCalculator calculator = new RecursiveComparisonDifferenceCalculator();
+    // WHEN
+    recursiveComparisonConfiguration.setMaxDifferences(2);
+    ComparisonDifferences truncatedDifferences = calculator.determineComparisonDifferences(actual, expected,
+                                                                                          recursiveComparisonConfiguration);
+    recursiveComparisonConfiguration.setMaxDifferences(3);
+    ComparisonDifferences allDifferences = calculator.determineComparisonDifferences(actual, expected,
+                                                                                    recursiveComparisonConfiguration);
+    // THEN
+    then(truncatedDifferences.getDifferences()).hasSize(2);
+    then(truncatedDifferences.isTruncated()).isTrue();
+    then(allDifferences.getDifferences()).hasSize(3);
+    then(allDifferences.isTruncated()).isFalse();
+  }
+
+  @Test
+  void should_fail_when_comparing_unordered_collections_with_elements_not_matching() {
+    // GIVEN
+    Set<Person> actual = newLinkedHashSet(person("Sherlock", 221, new Date(1854)), person("Watson", 221, new Date(1854)));
+    Set<Person> expected = newLinkedHashSet(person("Watson", 221, new Date(1854)), person("Moriarty", 1, new Date(1891)));
+    recursiveComparisonConfiguration.setMaxDifferences(1);
+    // WHEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                               recursiveComparisonConfiguration);
+    // THEN
+    then(differences).hasSize(1);
+  }
+
+  @Test
+  void should_fail_when_max_differences_is_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> recursiveComparisonConfiguration.setMaxDifferences(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("The max number of differences must be greater or equal to 1 but was 0");
+  }
+
+  private static Person person(String name, int number, Date dateOfBirth) {
+    Person person = new Person(name);
+    person.home.address.number = number;
+    person.dateOfBirth = dateOfBirth;
+    return person;
+  }
+
+}
@@ -0,0 +1,182 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.assertj.core.api.RecursiveComparisonAssert_isEqualTo_BaseTest;
+import org.assertj.core.internal.objects.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonAssert_isEqualTo_withParallelism_Test extends RecursiveComparisonAssert_isEqualTo_BaseTest {
+
+  @Test
+  void should_pass_for_wide_objects_graphs_with_the_same_data() {
+    // GIVEN
+    Map<String, Person> actual = people(5_000);
+    Map<String, Person> expected = people(5_000);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .withParallelism(4)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_report_the_same_differences_in_the_same_order_as_a_single_threaded_comparison() {
+    // GIVEN
+    List<Person> actual = new ArrayList<>(people(5_000).values());
+    List<Person> expected = new ArrayList<>(people(5_000).values());
+    for (int i = 0; i < expected.size(); i += 7) {
+      expected.get(i).name = "other name " + i;
+      expected.get(i).home.address.number = i;
+    }
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                              .withParallelism(4)
+                                                                                              .build();
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                       expected,
+                                                                                                                       parallelConfiguration);
+    // THEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                               recursiveComparisonConfiguration);
+    then(parallelDifferences).hasSize(1_430)
+                             .isEqualTo(differences);
+  }
+
+  @Test
+  void should_detect_cycles_in_each_branch_of_the_comparison() {
+    // GIVEN
+    Map<String, Person> actual = people(2_000);
+    actual.values().forEach(person -> person.neighbour = person);
+    Map<String, Person> expected = people(2_000);
+    expected.values().forEach(person -> person.neighbour = person);
+    // THEN
+    assertThat(actual).usingRecursiveComparison()
+                      .withParallelism(4)
+                      .isEqualTo(expected);
+  }
+
+  @Test
+  void should_compare_objects_referenced_from_several_branches_once() {
+    // GIVEN
+    Map<String, Person> actual = people(2_000);
+    Person actualNeighbour = new Person("neighbour");
+    actual.values().forEach(person -> person.neighbour = actualNeighbour);
+    Map<String, Person> expected = people(2_000);
+    Person expectedNeighbour = new Person("other neighbour");
+    expected.values().forEach(person -> person.neighbour = expectedNeighbour);
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                              .withParallelism(4)
+                                                                                              .build();
+    // WHEN
+    List<ComparisonDifference> parallelDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                       expected,
+                                                                                                                       parallelConfiguration);
+    // THEN
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                               recursiveComparisonConfiguration);
+    then(parallelDifferences).hasSize(1)
+                             .isEqualTo(differences);
+  }
+
+  @Test
+  void should_report_differences_of_objects_referenced_from_several_paths_as_a_single_threaded_comparison() {
+    // GIVEN
+    List<Person> actual = peopleWithNeighbours("neighbour");
+    List<Person> expected = peopleWithNeighbours("other neighbour");
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                              .withParallelism(4)
+                                                                                              .build();
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                               recursiveComparisonConfiguration);
+    // the neighbours are compared by whichever branch visits them first, the differences must not depend on it
+    for (int i = 0; i < 20; i++) {
+      // WHEN
+      List<ComparisonDifference> parallelDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                         expected,
+                                                                                                                         parallelConfiguration);
+      // THEN
+      then(parallelDifferences).hasSize(10)
+                               .isEqualTo(differences);
+    }
+  }
+
+  @Test
+  void should_report_the_same_first_differences_as_a_single_threaded_comparison_when_stopping_after_max_differences() {
+    // GIVEN
+    List<Person> actual = peopleWithNeighbours("neighbour");
+    List<Person> expected = peopleWithNeighbours("other neighbour");
+    for (int i = 0; i < expected.size(); i += 7) {
+      expected.get(i).name = "other name " + i;
+    }
+    recursiveComparisonConfiguration.setMaxDifferences(25);
+    RecursiveComparisonConfiguration parallelConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                              .withParallelism(4)
+                                                                                              .withMaxDifferences(25)
+                                                                                              .build();
+    List<ComparisonDifference> differences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual, expected,
+                                                                                                               recursiveComparisonConfiguration);
+    for (int i = 0; i < 20; i++) {
+      // WHEN
+      List<ComparisonDifference> parallelDifferences = new RecursiveComparisonDifferenceCalculator().determineDifferences(actual,
+                                                                                                                         expected,
+                                                                                                                         parallelConfiguration);
+      // THEN
+      then(parallelDifferences).hasSize(25)
+                               .isEqualTo(differences);
+    }
+  }
+
+  @Test
+  void should_fail_when_parallelism_is_less_than_one() {
+    // WHEN
+    Throwable throwable = catchThrowable(() -> recursiveComparisonConfiguration.setParallelism(0));
+    // THEN
+    then(throwable).isInstanceOf(IllegalArgumentException.class)
+                   .hasMessage("The parallelism must be greater or equal to 1 but was 0");
+  }
+
+  private static Map<String, Person> people(int count) {
+    Map<String, Person> people = new HashMap<>();
+    for (int i = 0; i < count; i++) {
+      Person person = new Person("person " + i);
+      person.home.address.number = 1;
+      people.put(person.name, person);
+    }
+    return people;
+  }
+
+  // 5000 people, each person shares its neighbour with the people having the same index modulo 10
+  private static List<Person> peopleWithNeighbours(String neighboursName) {
+    List<Person> neighbours = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      neighbours.add(new Person(neighboursName + " " + i));
+    }
+    List<Person> people = new ArrayList<>();
+    for (int i = 0; i < 5_000; i++) {
+      Person person = new Person("person " + i);
+      person.neighbour = neighbours.get(i % 10);
+      people.add(person);
+    }
+    return people;
+  }
+
+}
@@ -185,6 +185,26 @@ class RecursiveComparisonConfiguration_builder_Test {
     then(configuration.isInStrictTypeCheckingMode()).isEqualTo(value);
   }
 
+  @Test
+  void should_set_parallelism() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withParallelism(4)
+                                                                                     .build();
+    // THEN
+    then(configuration.getParallelism()).isEqualTo(4);
+  }
+
+  @Test
+  void should_set_maxDifferences() {
+    // WHEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                     .withMaxDifferences(5)
+                                                                                     .build();
+    // THEN
+    then(configuration.getMaxDifferences()).isEqualTo(5);
+  }
+
   @Test
   void should_set_ignoredTypes() {
     // GIVEN
@@ -0,0 +1,111 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.api.recursive.comparison;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.test.AlwaysEqualComparator.ALWAY_EQUALS_STRING;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import org.assertj.core.internal.objects.data.Person;
+import org.junit.jupiter.api.Test;
+
+class RecursiveComparisonConfiguration_freeze_Test {
+
+  @Test
+  void should_return_a_frozen_copy_equal_to_the_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = RecursiveComparisonConfiguration.builder()
+                                                                                      .withIgnoredFields("name")
+                                                                                      .withIgnoredCollectionOrderInFieldsMatchingRegexes("fr.*")
+                                                                                      .withComparatorForType(ALWAY_EQUALS_STRING, String.class)
+                                                                                      .build();
+    // WHEN
+    RecursiveComparisonConfiguration frozenConfiguration = configuration.freeze();
+    // THEN
+    then(frozenConfiguration).isNotSameAs(configuration)
+                             .isEqualTo(configuration);
+    then(frozenConfiguration.isFrozen()).isTrue();
+    then(configuration.isFrozen()).isFalse();
+  }
+
+  @Test
+  void should_not_be_changed_by_changing_the_configuration_it_was_frozen_from() {
+    // GIVEN
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration();
+    RecursiveComparisonConfiguration frozenConfiguration = configuration.freeze();
+    // WHEN
+    configuration.ignoreFields("name");
+    configuration.registerComparatorForType(ALWAY_EQUALS_STRING, String.class);
+    // THEN
+    then(frozenConfiguration.getIgnoredFields()).isEmpty();
+    then(frozenConfiguration.hasComparatorForType(String.class)).isFalse();
+  }
+
+  @Test
+  void should_fail_when_changing_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = new RecursiveComparisonConfiguration().freeze();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> frozenConfiguration.ignoreFields("name"));
+    // THEN
+    then(throwable).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_fail_when_changing_the_collections_of_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = new RecursiveComparisonConfiguration().freeze();
+    // WHEN
+    Throwable throwable = catchThrowable(() -> frozenConfiguration.getIgnoredFields().add("name"));
+    // THEN
+    then(throwable).isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  void should_return_a_modifiable_copy_of_a_frozen_configuration() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                            .withIgnoredFields("name")
+                                                                                            .build()
+                                                                                            .freeze();
+    // WHEN
+    RecursiveComparisonConfiguration configuration = new RecursiveComparisonConfiguration(frozenConfiguration);
+    configuration.ignoreFields("home");
+    // THEN
+    then(configuration.isFrozen()).isFalse();
+    then(configuration.getIgnoredFields()).containsExactly("name", "home");
+    then(frozenConfiguration.getIgnoredFields()).containsExactly("name");
+  }
+
+  @Test
+  void should_be_usable_by_assertions_without_being_changed() {
+    // GIVEN
+    RecursiveComparisonConfiguration frozenConfiguration = RecursiveComparisonConfiguration.builder()
+                                                                                            .withIgnoredFields("name")
+                                                                                            .build()
+                                                                                            .freeze();
+    Person sherlock = new Person("Sherlock");
+    Person moriarty = new Person("Moriarty");
+    moriarty.home.address.number = 2;
+    // WHEN
+    assertThat(sherlock).usingRecursiveComparison(frozenConfiguration)
+                        .ignoringFields("home.address.number")
+                        .isEqualTo(moriarty);
+    // THEN
+    then(frozenConfiguration.getIgnoredFields()).containsExactly("name");
+    expectAssertionError(() -> assertThat(sherlock).usingRecursiveComparison(frozenConfiguration).isEqualTo(moriarty));
+  }
+
+}
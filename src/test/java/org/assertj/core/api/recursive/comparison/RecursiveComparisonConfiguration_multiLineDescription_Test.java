@@ -289,6 +289,26 @@ class RecursiveComparisonConfiguration_multiLineDescription_Test {
     assertThat(multiLineDescription).contains(format("- actual and expected objects and their fields were compared field by field recursively even if they were not of the same type, this allows for example to compare a Person to a PersonDto (call strictTypeChecking(true) to change that behavior).%n"));
   }
 
+  @Test
+  void should_show_the_parallelism_when_comparing_in_parallel() {
+    // GIVEN
+    recursiveComparisonConfiguration.setParallelism(4);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    assertThat(multiLineDescription).contains(format("- independent parts of actual and expected objects were compared in parallel by 4 threads.%n"));
+  }
+
+  @Test
+  void should_show_the_max_number_of_differences() {
+    // GIVEN
+    recursiveComparisonConfiguration.setMaxDifferences(10);
+    // WHEN
+    String multiLineDescription = recursiveComparisonConfiguration.multiLineDescription(STANDARD_REPRESENTATION);
+    // THEN
+    assertThat(multiLineDescription).contains(format("- the comparison stops after finding 10 difference(s).%n"));
+  }
+
   @Test
   void should_show_a_complete_multiline_description() {
     // GIVEN
@@ -86,6 +86,17 @@ class RecursiveComparisonConfiguration_shouldIgnoreCollectionOrder_Test {
                      arguments(fieldLocation("father", "name", "first"), array("father", "name.first", "father.name.first")));
   }
 
+  @Test
+  void should_take_into_account_fields_to_ignore_collection_order_registered_after_a_field_was_evaluated() {
+    // GIVEN
+    FieldLocation fieldLocation = new FieldLocation(list("people", "[0]", "friends"));
+    assertThat(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation)).isFalse();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreCollectionOrderInFields("people.friends");
+    // THEN
+    assertThat(recursiveComparisonConfiguration.shouldIgnoreCollectionOrder(fieldLocation)).isTrue();
+  }
+
   @Test
   void should_register_ignore_collection_order_in_fields_matching_regexes_without_replacing_previous() {
     // WHEN
@@ -132,6 +132,18 @@ class RecursiveComparisonConfiguration_shouldIgnoreFields_Test {
                      arguments(dualValueWithPath("father", "name", "first"), list("father", "name.first", "father.name.first")));
   }
 
+  @Test
+  void should_take_into_account_fields_to_ignore_registered_after_a_field_was_evaluated() {
+    // GIVEN
+    DualValue dualValue = dualValueWithPath("people", "[0]", "name");
+    assertThat(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isFalse();
+    // WHEN
+    recursiveComparisonConfiguration.ignoreFieldsMatchingRegexes("people\\.n.*");
+    // THEN
+    assertThat(recursiveComparisonConfiguration.shouldIgnore(dualValue)).isTrue();
+    assertThat(recursiveComparisonConfiguration.shouldIgnore(dualValueWithPath("people", "[1]", "name"))).isTrue();
+  }
+
   @Test
   void ignoring_fields_with_regex_does_not_replace_previous_regexes() {
     // WHEN
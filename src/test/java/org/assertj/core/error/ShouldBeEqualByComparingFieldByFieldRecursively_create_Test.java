@@ -262,6 +262,40 @@ class ShouldBeEqualByComparingFieldByFieldRecursively_create_Test {
                                    CONFIGURATION_PROVIDER.representation().toStringOf(recursiveComparisonConfiguration)));
   }
 
+  @Test
+  void should_report_that_the_comparison_has_stopped_when_it_was_truncated() {
+    // GIVEN
+    final Name actualName = new Name("Magic", "Johnson");
+    final Name nullName = new Name(null, "Ginobili");
+    RecursiveComparisonConfiguration recursiveComparisonConfiguration = new RecursiveComparisonConfiguration();
+    recursiveComparisonConfiguration.setMaxDifferences(1);
+    List<ComparisonDifference> differences = computeDifferences(actualName, nullName, recursiveComparisonConfiguration);
+    // WHEN
+    // @format:off
+    String message = shouldBeEqualByComparingFieldByFieldRecursively(actualName,
+                                                                     nullName,
+                                                                     differences,
+                                                                     true,
+                                                                     recursiveComparisonConfiguration,
+                                                                     REPRESENTATION).create(TEST_DESCRIPTION, REPRESENTATION);
+    // @format:on
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting:%n" +
+                                   "  <Name[first='Magic', last='Johnson']>%n" +
+                                   "to be equal to:%n" +
+                                   "  <Name[first='null', last='Ginobili']>%n" +
+                                   "when recursively comparing field by field, but found the following difference:%n" +
+                                   "(the comparison has stopped after finding them, other differences might exist)%n" +
+                                   "%n" +
+                                   "field/property 'first' differ:%n" +
+                                   "- actual value   : \"Magic\"%n" +
+                                   "- expected value : null%n" +
+                                   "%n" +
+                                   "The recursive comparison was performed with this configuration:%n%s",
+                                   CONFIGURATION_PROVIDER.representation().toStringOf(recursiveComparisonConfiguration)));
+  }
+
   @Test
   void should_show_difference_with_percentage() {
     // GIVEN
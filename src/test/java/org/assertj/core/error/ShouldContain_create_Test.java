@@ -16,6 +16,7 @@ import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldContain.directoryShouldContain;
 import static org.assertj.core.error.ShouldContain.shouldContain;
+import static org.assertj.core.error.ShouldContain.streamShouldContain;
 import static org.assertj.core.test.Maps.mapOf;
 import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Lists.list;
@@ -30,6 +31,7 @@ import java.util.Map;
 import org.assertj.core.data.MapEntry;
 import org.assertj.core.description.TextDescription;
 import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
+import org.assertj.core.internal.StandardComparisonStrategy;
 import org.assertj.core.test.Jedi;
 import org.assertj.core.util.CaseInsensitiveStringComparator;
 import org.junit.jupiter.api.Test;
@@ -61,6 +63,21 @@ class ShouldContain_create_Test {
                                    " <[\"Luke\"]>%n"));
   }
 
+  @Test
+  void should_create_error_message_for_stream() {
+    // GIVEN
+    ErrorMessageFactory factory = streamShouldContain(list("Luke", "Yoda"), newLinkedHashSet("Luke"),
+                                                      StandardComparisonStrategy.instance());
+    // WHEN
+    String message = factory.create(new TextDescription("Test"));
+    // THEN
+    then(message).isEqualTo(format("[Test] %n" +
+                                   "Expecting Stream under test to contain:%n" +
+                                   " <[\"Luke\", \"Yoda\"]>%n" +
+                                   "but could not find the following element(s):%n" +
+                                   " <[\"Luke\"]>%n"));
+  }
+
   @Test
   void should_create_error_message_with_custom_comparison_strategy() {
     // GIVEN
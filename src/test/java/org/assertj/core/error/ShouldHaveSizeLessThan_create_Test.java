@@ -15,6 +15,7 @@ package org.assertj.core.error;
 import static java.lang.String.format;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThan;
+import static org.assertj.core.error.ShouldHaveSizeLessThan.shouldHaveSizeLessThanButHadAtLeast;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 
 import org.assertj.core.description.Description;
@@ -60,4 +61,17 @@ class ShouldHaveSizeLessThan_create_Test {
                                    + "  <\"['0x0061', '0x0062', '0x0063', '0x0064']\">%n"
                                    + "to be less than 2 but was 4"));
   }
+
+  @Test
+  void should_create_error_message_when_actual_size_is_not_known() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSizeLessThanButHadAtLeast("Iterator under test", 2, 2);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %n"
+                                   + "Expecting size of:%n"
+                                   + "  <\"Iterator under test\">%n"
+                                   + "to be less than 2 but had at least 2 elements"));
+  }
 }
@@ -56,6 +56,16 @@ class ShouldHaveSize_create_Test {
     then(message).isEqualTo(String.format("[Test] %nExpected size:<2> but was:<4> in:%n<['0x0061', '0x0062']>"));
   }
 
+  @Test
+  void should_create_error_message_with_a_size_greater_than_the_max_int() {
+    // GIVEN
+    ErrorMessageFactory factory = shouldHaveSize("Stream under test", 3_000_000_000L, 2);
+    // WHEN
+    String message = factory.create(new TextDescription("Test"), STANDARD_REPRESENTATION);
+    // THEN
+    then(message).isEqualTo(format("[Test] %nExpected size:<2> but was:<3000000000> in:%n<\"Stream under test\">"));
+  }
+
   @Test
   void should_create_error_message_for_incorrect_file_size() {
     // GIVEN
@@ -14,8 +14,12 @@ package org.assertj.core.internal;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.internal.IterableDiff.diff;
+import static org.assertj.core.internal.IterableDiff.diffInAnyOrder;
+import static org.assertj.core.util.Arrays.array;
 import static org.assertj.core.util.Lists.newArrayList;
 
+import java.sql.Timestamp;
+import java.util.Date;
 import java.util.List;
 
 import org.assertj.core.util.CaseInsensitiveStringComparator;
@@ -138,6 +142,73 @@ class IterableDiff_Test {
     assertThat(diff.unexpected).containsExactly(foo1);
   }
 
+  @Test
+  void should_report_differences_in_encounter_order() {
+    // GIVEN
+    actual = newArrayList("C", "#", "A", "#", "B", "$");
+    expected = newArrayList("$", "Z", "#", "Y", "X");
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly("Z", "Y", "X");
+    assertThat(diff.unexpected).containsExactly("C", "A", "#", "B");
+  }
+
+  @Test
+  void should_report_difference_between_two_iterables_with_duplicate_arrays() {
+    // GIVEN
+    List<String[]> actual = newArrayList(array("#"), array("#"), array("$"));
+    List<String[]> expected = newArrayList(array("$"), array("$"), array("#"));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.differencesFound()).isTrue();
+    assertThat(diff.missing).containsExactly((Object) array("$"));
+    assertThat(diff.unexpected).containsExactly((Object) array("#"));
+  }
+
+  @Test
+  void should_compare_elements_of_the_second_iterable_to_elements_of_the_first_one() {
+    // GIVEN
+    Date date = new Date(1L);
+    // Date equals Timestamp but Timestamp does not equal Date
+    Timestamp timestamp = new Timestamp(date.getTime());
+    List<Date> actual = newArrayList(timestamp, new Date(2L), new Date(3L));
+    List<Date> expected = newArrayList(date, new Date(2L), new Date(3L));
+    // WHEN
+    IterableDiff diff = diff(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.unexpected).isEmpty();
+    assertThat(diff.missing).containsExactly(date);
+  }
+
+  @Test
+  void should_pair_actual_elements_equal_to_expected_values() {
+    // GIVEN
+    Date date = new Date(1L);
+    // Date equals Timestamp but Timestamp does not equal Date
+    Timestamp timestamp = new Timestamp(date.getTime());
+    List<Date> actual = newArrayList(date, new Date(2L), new Date(3L));
+    List<Date> expected = newArrayList(timestamp, new Date(2L), new Date(3L));
+    // WHEN
+    IterableDiff diff = diffInAnyOrder(actual, expected, comparisonStrategy);
+    // THEN
+    assertThatNoDiff(diff);
+  }
+
+  @Test
+  void should_report_unpaired_elements_in_encounter_order() {
+    // GIVEN
+    actual = newArrayList("C", "#", "A", "#", "B", "$");
+    expected = newArrayList("$", "Z", "#", "Y", "$", "X");
+    // WHEN
+    IterableDiff diff = diffInAnyOrder(actual, expected, comparisonStrategy);
+    // THEN
+    assertThat(diff.missing).containsExactly("Z", "Y", "$", "X");
+    assertThat(diff.unexpected).containsExactly("C", "A", "#", "B");
+  }
+
   private class Foo {
   }
 
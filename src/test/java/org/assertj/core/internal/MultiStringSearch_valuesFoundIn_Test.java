@@ -0,0 +1,82 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.MultiStringSearch.searchFor;
+
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class MultiStringSearch_valuesFoundIn_Test {
+
+  private final Random random = new Random(42);
+
+  @Test
+  void should_find_overlapping_values_and_values_ending_like_others() {
+    // GIVEN
+    CharSequence[] values = { "he", "she", "his", "hers", "e", "shy" };
+    // WHEN
+    Set<String> foundValues = searchFor(values).valuesFoundIn("ushers");
+    // THEN
+    then(foundValues).containsOnly("he", "she", "hers", "e");
+  }
+
+  @Test
+  void should_find_duplicated_values() {
+    // GIVEN
+    CharSequence[] values = { "ab", "ab", "c" };
+    // WHEN
+    Set<String> foundValues = searchFor(values).valuesFoundIn("xabx");
+    // THEN
+    then(foundValues).containsOnly("ab");
+  }
+
+  @Test
+  void should_find_empty_value_in_any_text() {
+    // GIVEN
+    CharSequence[] values = { "", "a" };
+    // WHEN
+    Set<String> foundValues = searchFor(values).valuesFoundIn("");
+    // THEN
+    then(foundValues).containsOnly("");
+  }
+
+  @Test
+  void should_find_values_like_string_contains() {
+    for (int i = 0; i < 10_000; i++) {
+      // GIVEN
+      String text = randomString(20);
+      CharSequence[] values = Stream.generate(() -> randomString(4)).limit(5).toArray(CharSequence[]::new);
+      // WHEN
+      Set<String> foundValues = searchFor(values).valuesFoundIn(text);
+      // THEN
+      Set<String> expected = Stream.of(values).map(CharSequence::toString).filter(text::contains).collect(Collectors.toSet());
+      then(foundValues).as("%s in '%s'", values, text).isEqualTo(expected);
+    }
+  }
+
+  // strings over a small alphabet to get many partial matches
+  private String randomString(int maxLength) {
+    char[] chars = new char[random.nextInt(maxLength + 1)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = (char) ('a' + random.nextInt(3));
+    }
+    return new String(chars);
+  }
+
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static java.lang.Character.isWhitespace;
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.NormalizedChars.ignoringWhitespace;
+import static org.assertj.core.internal.NormalizedChars.normalizingPunctuationAndWhitespace;
+import static org.assertj.core.internal.NormalizedChars.normalizingWhitespace;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class NormalizedChars_contentEquals_Test {
+
+  private static final char[] CHARS = { 'a', 'b', ' ', '\t', '\n', '\u2003', '\u0000', '\u001F', '.', ',', '\u00A0' };
+
+  private final Random random = new Random(42);
+
+  @Test
+  void should_compare_like_strings_without_whitespace() {
+    for (int i = 0; i < 10_000; i++) {
+      // GIVEN
+      String actual = randomString();
+      String expected = randomString();
+      // WHEN
+      boolean contentEquals = ignoringWhitespace(actual).contentEquals(ignoringWhitespace(expected));
+      // THEN
+      then(contentEquals).as("'%s' vs '%s'", actual, expected).isEqualTo(removeWhitespace(actual).equals(removeWhitespace(expected)));
+    }
+  }
+
+  @Test
+  void should_compare_like_strings_with_normalized_whitespace() {
+    for (int i = 0; i < 10_000; i++) {
+      // GIVEN
+      String actual = randomString();
+      String expected = randomString();
+      // WHEN
+      boolean contentEquals = normalizingWhitespace(actual).contentEquals(normalizingWhitespace(expected));
+      // THEN
+      then(contentEquals).as("'%s' vs '%s'", actual, expected).isEqualTo(normalizeWhitespace(actual).equals(normalizeWhitespace(expected)));
+    }
+  }
+
+  @Test
+  void should_compare_like_strings_with_normalized_punctuation_and_whitespace() {
+    for (int i = 0; i < 10_000; i++) {
+      // GIVEN
+      String actual = randomString();
+      String expected = randomString();
+      // WHEN
+      boolean contentEquals = normalizingPunctuationAndWhitespace(actual).contentEquals(normalizingPunctuationAndWhitespace(expected));
+      // THEN
+      String normalizedActual = normalizeWhitespace(actual.replaceAll("\\p{Punct}", ""));
+      String normalizedExpected = normalizeWhitespace(expected.replaceAll("\\p{Punct}", ""));
+      then(contentEquals).as("'%s' vs '%s'", actual, expected).isEqualTo(normalizedActual.equals(normalizedExpected));
+    }
+  }
+
+  @Test
+  void should_trim_control_characters_like_string_trim() {
+    then(normalizingWhitespace("\u0000 a b\u001B").contentEquals(normalizingWhitespace("a  b"))).isTrue();
+    then(normalizingWhitespace("a\u0000b").contentEquals(normalizingWhitespace("ab"))).isFalse();
+  }
+
+  // short strings over a small alphabet to get many equal normalized strings
+  private String randomString() {
+    char[] chars = new char[random.nextInt(6)];
+    for (int i = 0; i < chars.length; i++) {
+      chars[i] = CHARS[random.nextInt(CHARS.length)];
+    }
+    return new String(chars);
+  }
+
+  private static String removeWhitespace(String string) {
+    return string.chars().filter(c -> !isWhitespace(c))
+                 .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                 .toString();
+  }
+
+  private static String normalizeWhitespace(String string) {
+    StringBuilder result = new StringBuilder();
+    boolean lastWasSpace = true;
+    for (char c : string.toCharArray()) {
+      if (isWhitespace(c)) {
+        if (!lastWasSpace) result.append(' ');
+        lastWasSpace = true;
+      } else {
+        result.append(c);
+        lastWasSpace = false;
+      }
+    }
+    return result.toString().trim();
+  }
+
+}
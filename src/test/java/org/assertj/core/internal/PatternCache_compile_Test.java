@@ -0,0 +1,117 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.Test;
+
+class PatternCache_compile_Test {
+
+  @Test
+  void should_compile_a_regex_once() {
+    // GIVEN
+    PatternCache patternCache = new PatternCache(10);
+    Pattern pattern = patternCache.compile("a+b");
+    // WHEN
+    Pattern cachedPattern = patternCache.compile("a+b");
+    // THEN
+    then(cachedPattern).isSameAs(pattern);
+    then(patternCache.missCount()).isEqualTo(1);
+    then(patternCache.hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_cache_a_regex_per_flags() {
+    // GIVEN
+    PatternCache patternCache = new PatternCache(10);
+    Pattern pattern = patternCache.compile("a+b");
+    // WHEN
+    Pattern dotAllPattern = patternCache.compile("a+b", Pattern.DOTALL);
+    // THEN
+    then(dotAllPattern).isNotSameAs(pattern);
+    then(dotAllPattern.flags()).isEqualTo(Pattern.DOTALL);
+    then(patternCache.missCount()).isEqualTo(2);
+    then(patternCache.size()).isEqualTo(2);
+  }
+
+  @Test
+  void should_evict_the_least_recently_used_pattern() {
+    // GIVEN
+    PatternCache patternCache = new PatternCache(2);
+    patternCache.compile("a");
+    patternCache.compile("b");
+    patternCache.compile("a");
+    // WHEN
+    patternCache.compile("c");
+    // THEN
+    then(patternCache.size()).isEqualTo(2);
+    patternCache.compile("a");
+    then(patternCache.hitCount()).isEqualTo(2);
+    patternCache.compile("b");
+    then(patternCache.missCount()).isEqualTo(4);
+  }
+
+  @Test
+  void should_keep_the_most_recently_used_patterns_when_shrinking() {
+    // GIVEN
+    PatternCache patternCache = new PatternCache(3);
+    patternCache.compile("a");
+    patternCache.compile("b");
+    patternCache.compile("c");
+    patternCache.compile("a");
+    // WHEN
+    patternCache.setMaxSize(2);
+    // THEN
+    then(patternCache.size()).isEqualTo(2);
+    patternCache.compile("a");
+    patternCache.compile("c");
+    then(patternCache.hitCount()).isEqualTo(3);
+  }
+
+  @Test
+  void should_not_cache_patterns_when_size_is_zero() {
+    // GIVEN
+    PatternCache patternCache = new PatternCache(0);
+    patternCache.compile("a");
+    // WHEN
+    patternCache.compile("a");
+    // THEN
+    then(patternCache.size()).isZero();
+    then(patternCache.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_reset_counters_when_cleared() {
+    // GIVEN
+    PatternCache patternCache = new PatternCache(10);
+    patternCache.compile("a");
+    patternCache.compile("a");
+    // WHEN
+    patternCache.clear();
+    // THEN
+    then(patternCache.size()).isZero();
+    then(patternCache.hitCount()).isZero();
+    then(patternCache.missCount()).isZero();
+  }
+
+  @Test
+  void should_fail_on_negative_size() {
+    assertThatIllegalArgumentException().isThrownBy(() -> new PatternCache(-1))
+                                        .withMessage("patternCacheSize must be >= 0, but was -1");
+  }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.SequenceSearch.searchFor;
+import static org.assertj.core.util.Arrays.array;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class SequenceSearch_visit_Test {
+
+  @Test
+  void should_find_sequence_overlapping_a_partial_match() {
+    // GIVEN
+    SequenceSearch sequenceSearch = searchFor(array("a", "a", "b"), StandardComparisonStrategy.instance());
+    // WHEN
+    List<Integer> sequenceStartIndexes = sequenceStartIndexes(sequenceSearch, "a", "a", "a", "b", "a", "a", "b");
+    // THEN
+    then(sequenceStartIndexes).containsExactly(1, 4);
+  }
+
+  @Test
+  void should_find_overlapping_sequences() {
+    // GIVEN
+    SequenceSearch sequenceSearch = searchFor(array("a", "b", "a"), StandardComparisonStrategy.instance());
+    // WHEN
+    List<Integer> sequenceStartIndexes = sequenceStartIndexes(sequenceSearch, "a", "b", "a", "b", "a", "c", "a");
+    // THEN
+    then(sequenceStartIndexes).containsExactly(0, 2);
+  }
+
+  @Test
+  void should_find_sequence_with_a_comparator_that_is_not_transitive() {
+    // GIVEN
+    Comparator<Double> closeEnough = (d1, d2) -> Math.abs(d1 - d2) <= 0.15 ? 0 : Double.compare(d1, d2);
+    SequenceSearch sequenceSearch = searchFor(array(0.0, 0.2, 0.5), new ComparatorBasedComparisonStrategy(closeEnough));
+    // WHEN
+    List<Integer> sequenceStartIndexes = sequenceStartIndexes(sequenceSearch, 0.0, 0.1, 0.2, 0.5);
+    // THEN
+    then(sequenceStartIndexes).containsExactly(1);
+  }
+
+  private static List<Integer> sequenceStartIndexes(SequenceSearch sequenceSearch, Object... elements) {
+    List<Integer> sequenceStartIndexes = list();
+    for (Object element : elements) {
+      if (sequenceSearch.visit(element)) sequenceStartIndexes.add(sequenceSearch.sequenceStartIndex());
+    }
+    return sequenceStartIndexes;
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.internal.SortedElements.sortedElementsOf;
+import static org.assertj.core.util.Lists.list;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+import org.assertj.core.util.CaseInsensitiveStringComparator;
+import org.junit.jupiter.api.Test;
+
+class SortedElements_sortedElementsOf_Test {
+
+  @Test
+  void should_look_up_values_according_to_the_comparator() {
+    // GIVEN
+    List<String> elements = list("Luke", "Yoda", null, "Leia");
+    // WHEN
+    Optional<SortedElements> sortedElements = sortedElementsOf(elements, CaseInsensitiveStringComparator.instance);
+    // THEN
+    then(sortedElements).hasValueSatisfying(sorted -> {
+      then(sorted.contains("YODA")).isTrue();
+      then(sorted.contains("leia")).isTrue();
+      then(sorted.contains(null)).isTrue();
+      then(sorted.contains("Han")).isFalse();
+    });
+  }
+
+  @Test
+  void should_not_contain_null_when_elements_do_not() {
+    // WHEN
+    Optional<SortedElements> sortedElements = sortedElementsOf(list("Luke"), CaseInsensitiveStringComparator.instance);
+    // THEN
+    then(sortedElements).hasValueSatisfying(sorted -> then(sorted.contains(null)).isFalse());
+  }
+
+  @Test
+  void should_not_sort_elements_when_comparator_only_tells_whether_elements_are_equal() {
+    // GIVEN
+    Comparator<String> equalsComparator = (s1, s2) -> s1.equals(s2) ? 0 : 1;
+    // WHEN
+    Optional<SortedElements> sortedElements = sortedElementsOf(list("Luke", "Yoda", "Leia"), equalsComparator);
+    // THEN
+    then(sortedElements).isEmpty();
+  }
+
+  @Test
+  void should_consistently_order_values_compared_as_the_elements() {
+    // GIVEN
+    Optional<SortedElements> sortedElements = sortedElementsOf(list("Luke", "Yoda", "Leia"),
+                                                               CaseInsensitiveStringComparator.instance);
+    // WHEN/THEN
+    then(sortedElements).hasValueSatisfying(sorted -> then(sorted.consistentlyOrders(list("han", null, "LUKE"))).isTrue());
+  }
+
+  @Test
+  void should_not_consistently_order_values_compared_inconsistently_with_the_elements() {
+    // GIVEN
+    Comparator<String> sameLetterOrByNumber = (s1, s2) -> s1.charAt(0) == s2.charAt(0) ? 0
+        : Character.compare(s1.charAt(1), s2.charAt(1));
+    Optional<SortedElements> sortedElements = sortedElementsOf(list("A1", "B2", "C3", "D4"), sameLetterOrByNumber);
+    // WHEN/THEN
+    then(sortedElements).hasValueSatisfying(sorted -> {
+      // C0 is equal to C3 but lower than A1, the binary search misses it
+      then(sorted.contains("C0")).isFalse();
+      then(sorted.consistentlyOrders(list("C0"))).isFalse();
+    });
+  }
+
+  @Test
+  void should_not_consistently_order_values_the_comparator_fails_to_compare() {
+    // GIVEN
+    Optional<SortedElements> sortedElements = sortedElementsOf(list("Luke", "Leia"), CaseInsensitiveStringComparator.instance);
+    // WHEN/THEN
+    then(sortedElements).hasValueSatisfying(sorted -> then(sorted.consistentlyOrders(list("Yoda", 1))).isFalse());
+  }
+
+  @Test
+  void should_not_sort_elements_when_comparator_fails_to_compare_them() {
+    // GIVEN
+    List<Object> elements = list("Luke", 1, "Leia");
+    // WHEN
+    Optional<SortedElements> sortedElements = sortedElementsOf(elements, CaseInsensitiveStringComparator.instance);
+    // THEN
+    then(sortedElements).isEmpty();
+  }
+
+}
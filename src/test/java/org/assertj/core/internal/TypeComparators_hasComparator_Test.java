@@ -61,6 +61,43 @@ class TypeComparators_hasComparator_Test {
     assertThat(comparatorFound).isFalse();
   }
 
+  @Test
+  void should_find_comparator_registered_after_a_previous_lookup_failed() {
+    // GIVEN
+    typeComparators.hasComparatorForType(Foo.class);
+    typeComparators.put(I5.class, newComparator());
+    // WHEN
+    boolean comparatorFound = typeComparators.hasComparatorForType(Foo.class);
+    // THEN
+    assertThat(comparatorFound).isTrue();
+  }
+
+  @Test
+  void should_find_the_closest_comparator_registered_after_a_previous_lookup() {
+    // GIVEN
+    Comparator<Bar> barComparator = newComparator();
+    Comparator<Foo> fooComparator = newComparator();
+    typeComparators.put(Bar.class, barComparator);
+    typeComparators.get(Foo.class);
+    typeComparators.put(Foo.class, fooComparator);
+    // WHEN
+    Comparator<?> comparator = typeComparators.get(Foo.class);
+    // THEN
+    assertThat(comparator).isSameAs(fooComparator);
+  }
+
+  @Test
+  void should_not_find_any_comparator_after_clearing_them() {
+    // GIVEN
+    typeComparators.put(Foo.class, newComparator());
+    typeComparators.hasComparatorForType(Foo.class);
+    typeComparators.clear();
+    // WHEN
+    boolean comparatorFound = typeComparators.hasComparatorForType(Foo.class);
+    // THEN
+    assertThat(comparatorFound).isFalse();
+  }
+
   private static <T> Comparator<T> newComparator() {
     return (T o1, T o2) -> 0;
   }
@@ -88,6 +88,20 @@ class DoubleArrays_assertContainsOnly_Test extends DoubleArraysBaseTest {
                                                    .withMessage(shouldContainOnly(actual, expected, newArrayList(20d), newArrayList(10d)).create());
   }
 
+  @Test
+  void should_pass_if_actual_contains_NaN_given_as_value() {
+    actual = arrayOf(6d, Double.NaN);
+    arrays.assertContainsOnly(someInfo(), actual, arrayOf(Double.NaN, 6d));
+  }
+
+  @Test
+  void should_fail_if_actual_contains_negative_zero_and_given_value_is_positive_zero() {
+    actual = arrayOf(-0.0d);
+    double[] expected = { 0.0d };
+    assertThatExceptionOfType(AssertionError.class).isThrownBy(() -> arrays.assertContainsOnly(someInfo(), actual, expected))
+                                                   .withMessage(shouldContainOnly(actual, expected, newArrayList(0.0d), newArrayList(-0.0d)).create());
+  }
+
   @Test
   void should_pass_if_actual_contains_given_values_only_according_to_custom_comparison_strategy() {
     arraysWithCustomComparisonStrategy.assertContainsOnly(someInfo(), actual, arrayOf(6d, -8d, 10d));
@@ -0,0 +1,114 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.files;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(java.io.File, java.io.File)}</code>.
+ */
+class BinaryDiff_diff_File_File_Test {
+
+  private static BinaryDiff binaryDiff;
+
+  @BeforeAll
+  static void setUpOnce() {
+    binaryDiff = new BinaryDiff();
+  }
+
+  private File actual;
+  private File expected;
+
+  @BeforeEach
+  void setUp() {
+    actual = org.assertj.core.util.Files.newTemporaryFile();
+    actual.deleteOnExit();
+    expected = org.assertj.core.util.Files.newTemporaryFile();
+    expected.deleteOnExit();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_have_equal_content() throws IOException {
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE);
+    write(expected, 0xCA, 0xFE, 0xBA, 0xBE);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_no_diff_if_files_are_empty() throws IOException {
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_files_differ_on_one_byte() throws IOException {
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE);
+    write(expected, 0xCA, 0xFE, 0xBE, 0xBE);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(2);
+    assertThat(result.actual).isEqualTo("0xBA");
+    assertThat(result.expected).isEqualTo("0xBE");
+  }
+
+  @Test
+  void should_return_diff_if_actual_is_shorter() throws IOException {
+    write(actual, 0xCA, 0xFE, 0xBA);
+    write(expected, 0xCA, 0xFE, 0xBA, 0xBE);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(3);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0xBE");
+  }
+
+  @Test
+  void should_return_diff_if_expected_is_shorter() throws IOException {
+    write(actual, 0xCA, 0xFE, 0xBA, 0xBE);
+    write(expected, 0xCA, 0xFE, 0xBA);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(3);
+    assertThat(result.actual).isEqualTo("0xBE");
+    assertThat(result.expected).isEqualTo("EOF");
+  }
+
+  @Test
+  void should_return_first_diff_in_large_files() throws IOException {
+    byte[] content = new byte[1_000_003];
+    Files.write(expected.toPath(), content);
+    content[100_005] = 1;
+    content[500_000] = 2;
+    Files.write(actual.toPath(), content);
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(100_005);
+    assertThat(result.actual).isEqualTo("0x1");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
+  private static void write(File file, int... contents) throws IOException {
+    byte[] byteContents = new byte[contents.length];
+    for (int i = 0; i < contents.length; i++) {
+      byteContents[i] = (byte) contents[i];
+    }
+    Files.write(file.toPath(), byteContents);
+  }
+}
@@ -14,7 +14,6 @@ package org.assertj.core.internal.files;
 
 import static java.lang.String.format;
 import static java.nio.charset.Charset.defaultCharset;
-import static java.nio.file.Files.readAllBytes;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
@@ -117,7 +116,7 @@ class Files_assertSameContentAs_Test extends FilesBaseTest {
   void should_fail_if_files_do_not_have_equal_content() throws IOException {
     List<Delta<String>> diffs = Lists.newArrayList(delta);
     when(diff.diff(actual, defaultCharset(), expected, defaultCharset())).thenReturn(diffs);
-    when(binaryDiff.diff(actual, readAllBytes(expected.toPath()))).thenReturn(new BinaryDiffResult(1, -1, -1));
+    when(binaryDiff.diff(actual, expected)).thenReturn(new BinaryDiffResult(1, -1, -1));
     AssertionInfo info = someInfo();
 
     Throwable error = catchThrowable(() -> files.assertSameContentAs(info, actual, defaultCharset(), expected, defaultCharset()));
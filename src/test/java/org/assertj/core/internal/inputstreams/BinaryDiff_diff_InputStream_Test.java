@@ -15,6 +15,7 @@ package org.assertj.core.internal.inputstreams;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
@@ -82,6 +83,24 @@ class BinaryDiff_diff_InputStream_Test {
     assertThat(result.expected).isEqualTo("EOF");
   }
 
+  @Test
+  void should_return_first_diff_of_streams_read_in_several_blocks() throws IOException {
+    byte[] content = new byte[1_000_003];
+    expected = new ByteArrayInputStream(content.clone());
+    content[100_005] = 1;
+    actual = new FilterInputStream(new ByteArrayInputStream(content)) {
+      @Override
+      public int read(byte[] b, int off, int len) throws IOException {
+        // streams may read less bytes than requested
+        return super.read(b, off, Math.min(len, 1_000));
+      }
+    };
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    assertThat(result.offset).isEqualTo(100_005);
+    assertThat(result.actual).isEqualTo("0x1");
+    assertThat(result.expected).isEqualTo("0x0");
+  }
+
   private InputStream stream(int... contents) {
     byte[] byteContents = new byte[contents.length];
     for (int i = 0; i < contents.length; i++) {
@@ -13,6 +13,7 @@
 package org.assertj.core.internal.inputstreams;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.ByteArrayInputStream;
@@ -20,9 +21,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Random;
 
 import org.assertj.core.internal.Diff;
 import org.assertj.core.util.diff.Delta;
+import org.assertj.core.util.diff.DiffUtils;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 
@@ -121,4 +124,28 @@ class Diff_diff_InputStream_Test {
     assertThat(diffs.get(0)).hasToString(format("Extra content at line 1:%n"
                                                 + "  [\"\"]%n"));
   }
+
+  @Test
+  void should_return_the_same_diffs_as_diffing_all_lines() throws IOException {
+    Random random = new Random(42);
+    for (int i = 0; i < 1_000; i++) {
+      // GIVEN
+      String[] actualLines = randomLines(random);
+      String[] expectedLines = randomLines(random);
+      // WHEN
+      List<Delta<String>> diffs = diff.diff(stream(actualLines), stream(expectedLines));
+      // THEN
+      List<Delta<String>> allLinesDiffs = DiffUtils.diff(asList(expectedLines), asList(actualLines)).getDeltas();
+      assertThat(diffs).as("%s vs %s", actualLines, expectedLines).isEqualTo(allLinesDiffs);
+    }
+  }
+
+  // few distinct lines to get common starts and many matching lines
+  private static String[] randomLines(Random random) {
+    String[] lines = new String[1 + random.nextInt(8)];
+    for (int i = 0; i < lines.length; i++) {
+      lines[i] = "line" + random.nextInt(3);
+    }
+    return lines;
+  }
 }
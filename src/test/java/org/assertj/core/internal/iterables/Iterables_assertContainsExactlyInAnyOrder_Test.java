@@ -26,6 +26,10 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.sql.Timestamp;
+import java.util.Date;
+import java.util.List;
+
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
@@ -119,6 +123,17 @@ class Iterables_assertContainsExactlyInAnyOrder_Test extends IterablesBaseTest {
         shouldContainExactlyInAnyOrder(actual, expected, newArrayList("Luke"), emptyList(), StandardComparisonStrategy.instance()));
   }
 
+  @Test
+  void should_pass_if_actual_elements_are_equal_to_given_values_but_not_the_other_way_around() {
+    // GIVEN
+    Date date = new Date(1L);
+    // Date equals Timestamp but Timestamp does not equal Date
+    Timestamp timestamp = new Timestamp(date.getTime());
+    List<Date> dates = newArrayList(date, new Date(2L), new Date(3L), new Date(4L));
+    // WHEN/THEN
+    iterables.assertContainsExactlyInAnyOrder(someInfo(), dates, array(timestamp, new Date(2L), new Date(3L), new Date(4L)));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -27,7 +27,10 @@ import static org.assertj.core.util.FailureMessages.actualIsNull;
 import static org.assertj.core.util.Lists.newArrayList;
 import static org.mockito.Mockito.verify;
 
+import java.sql.Timestamp;
 import java.util.Collection;
+import java.util.Date;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
 import org.assertj.core.internal.Iterables;
@@ -95,6 +98,22 @@ class Iterables_assertContainsOnly_Test extends IterablesBaseTest {
                                                    .withMessage(actualIsNull());
   }
 
+  @Test
+  void should_report_actual_elements_not_equal_to_many_given_values_even_if_these_values_are_equal_to_them() {
+    // GIVEN
+    AssertionInfo info = someInfo();
+    Date date = new Date(1_000);
+    // Date equals Timestamp but Timestamp does not equal Date
+    Timestamp timestamp = new Timestamp(date.getTime());
+    List<Date> dates = newArrayList(timestamp, new Date(2_000), new Date(3_000), new Date(4_000));
+    Object[] expected = { date, new Date(2_000), new Date(3_000), new Date(4_000) };
+    // WHEN
+    Throwable error = catchThrowable(() -> iterables.assertContainsOnly(info, dates, expected));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldContainOnly(dates, expected, newArrayList(date), newArrayList(timestamp)));
+  }
+
   @Test
   void should_fail_if_actual_does_not_contain_all_given_values() {
     AssertionInfo info = someInfo();
@@ -27,9 +27,14 @@ import static org.assertj.core.util.Lists.newArrayList;
 import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.mockito.Mockito.verify;
 
+import java.sql.Timestamp;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.Test;
@@ -107,6 +112,45 @@ class Iterables_assertContains_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldContain(actual, expected, newLinkedHashSet("Han")));
   }
 
+  @Test
+  void should_pass_if_actual_contains_many_given_arrays() {
+    // GIVEN
+    List<Object> actual = newArrayList(array("Luke"), array("Yoda"), array("Leia"), array("Han"));
+    // WHEN/THEN
+    iterables.assertContains(someInfo(), actual, array(array("Han"), array("Leia"), array("Yoda"), array("Luke")));
+  }
+
+  @Test
+  void should_pass_if_actual_contains_many_given_values_overriding_equals_but_not_hashCode() {
+    // GIVEN
+    List<Object> actual = newArrayList(new NoHashCode("Luke"), new NoHashCode("Yoda"), new NoHashCode("Leia"), "Han");
+    // WHEN/THEN
+    iterables.assertContains(someInfo(), actual, array("Han", new NoHashCode("Leia"), new NoHashCode("Yoda"), new NoHashCode("Luke")));
+  }
+
+  @Test
+  void should_fail_if_actual_does_not_contain_many_given_values() {
+    // GIVEN
+    AssertionInfo info = someInfo();
+    Object[] expected = { "Han", "Luke", "Leia", "Yoda", "Chewbacca" };
+    // WHEN
+    Throwable error = catchThrowable(() -> iterables.assertContains(info, actual, expected));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+    verify(failures).failure(info, shouldContain(actual, expected, newLinkedHashSet("Han", "Chewbacca")));
+  }
+
+  @Test
+  void should_pass_if_actual_contains_many_given_values_equal_to_its_elements_but_not_the_other_way_around() {
+    // GIVEN
+    Date date = new Date(1_000);
+    List<Date> actual = newArrayList(date, new Date(2_000), new Date(3_000), new Date(4_000));
+    // Date equals Timestamp but Timestamp does not equal Date
+    Timestamp timestamp = new Timestamp(date.getTime());
+    // WHEN/THEN
+    iterables.assertContains(someInfo(), actual, array(timestamp, new Date(2_000), new Date(3_000), new Date(4_000)));
+  }
+
   // ------------------------------------------------------------------------------------------------------------------
   // tests using a custom comparison strategy
   // ------------------------------------------------------------------------------------------------------------------
@@ -148,4 +192,42 @@ class Iterables_assertContains_Test extends IterablesBaseTest {
     verify(failures).failure(info, shouldContain(actual, expected, newLinkedHashSet("Han"), comparisonStrategy));
   }
 
+  @Test
+  void should_pass_if_actual_contains_many_given_values_according_to_a_comparator_not_defining_a_total_order() {
+    // GIVEN
+    Comparator<Item> sameNameOrByNumber = (x, y) -> x.name.equals(y.name) ? 0 : Integer.compare(x.number, y.number);
+    Iterables iterables = new Iterables(new ComparatorBasedComparisonStrategy(sameNameOrByNumber));
+    List<Item> actual = newArrayList(new Item("A", 1), new Item("B", 2), new Item("C", 3), new Item("D", 4));
+    // WHEN/THEN
+    iterables.assertContains(someInfo(), actual, array(new Item("C", 0), new Item("A", 1), new Item("B", 2), new Item("D", 4)));
+  }
+
+  private static class Item {
+    private final String name;
+    private final int number;
+
+    private Item(String name, int number) {
+      this.name = name;
+      this.number = number;
+    }
+
+    @Override
+    public String toString() {
+      return name + number;
+    }
+  }
+
+  private static class NoHashCode {
+    private final String name;
+
+    private NoHashCode(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      return obj instanceof NoHashCode && ((NoHashCode) obj).name.equals(name);
+    }
+  }
+
 }
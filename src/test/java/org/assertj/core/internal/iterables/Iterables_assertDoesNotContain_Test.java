@@ -12,6 +12,7 @@
  */
 package org.assertj.core.internal.iterables;
 
+import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -30,9 +31,11 @@ import static org.assertj.core.util.Sets.newLinkedHashSet;
 import static org.mockito.Mockito.verify;
 
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 
 import org.assertj.core.api.AssertionInfo;
+import org.assertj.core.internal.ComparatorBasedComparisonStrategy;
 import org.assertj.core.internal.Iterables;
 import org.assertj.core.internal.IterablesBaseTest;
 import org.junit.jupiter.api.Test;
@@ -114,4 +117,35 @@ class Iterables_assertDoesNotContain_Test extends IterablesBaseTest {
                                                     comparisonStrategy));
   }
 
+  @Test
+  void should_fail_if_actual_contains_one_of_many_given_values_according_to_a_comparator_not_defining_a_total_order() {
+    // GIVEN
+    Comparator<Item> sameNameOrByNumber = (x, y) -> x.name.equals(y.name) ? 0 : Integer.compare(x.number, y.number);
+    ComparatorBasedComparisonStrategy comparisonStrategy = new ComparatorBasedComparisonStrategy(sameNameOrByNumber);
+    Iterables iterables = new Iterables(comparisonStrategy);
+    List<Item> items = newArrayList(new Item("A", 1), new Item("B", 2), new Item("C", 3), new Item("D", 4));
+    Item c0 = new Item("C", 0);
+    Object[] values = array(c0, new Item("E", 5), new Item("F", 6), new Item("G", 7));
+    // WHEN
+    Throwable error = catchThrowable(() -> iterables.assertDoesNotContain(someInfo(), items, values));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class)
+                     .hasMessageContaining(format("but found%n <[C0]>"));
+  }
+
+  private static class Item {
+    private final String name;
+    private final int number;
+
+    private Item(String name, int number) {
+      this.name = name;
+      this.number = number;
+    }
+
+    @Override
+    public String toString() {
+      return name + number;
+    }
+  }
+
 }
@@ -114,6 +114,17 @@ class Maps_assertContainsOnlyKeys_Test extends MapsBaseTest {
     verify(failures).failure(info, shouldContainOnlyKeys(underTest, expectedKeys, set("color"), set("job")));
   }
 
+  @Test
+  void should_fail_if_an_expected_key_is_given_twice() {
+    // GIVEN
+    AssertionInfo info = someInfo();
+    String[] expectedKeys = { "name", "color", "name" };
+    // WHEN
+    expectAssertionError(() -> maps.assertContainsOnlyKeys(info, actual, expectedKeys));
+    // THEN
+    verify(failures).failure(info, shouldContainOnlyKeys(actual, expectedKeys, set("name"), emptySet()));
+  }
+
   private static HashSet<String> set(String entry) {
     HashSet<String> set = new HashSet<>();
     set.add(entry);
@@ -0,0 +1,93 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.internal.paths;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.assertj.core.internal.BinaryDiff;
+import org.assertj.core.internal.BinaryDiffResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Tests for <code>{@link BinaryDiff#diff(Path, Path)}</code> and <code>{@link BinaryDiff#diff(Path, byte[])}</code> on a
+ * file system that does not support memory mapped files.
+ */
+class BinaryDiff_diff_Path_Path_Test {
+
+  private final BinaryDiff binaryDiff = new BinaryDiff();
+
+  private FileSystem zipFileSystem;
+  private Path actual;
+  private Path expected;
+
+  @BeforeEach
+  void setUp(@TempDir Path tempDir) throws IOException {
+    URI zipFile = URI.create("jar:" + tempDir.resolve("contents.zip").toUri());
+    zipFileSystem = FileSystems.newFileSystem(zipFile, singletonMap("create", "true"));
+    actual = zipFileSystem.getPath("actual.bin");
+    expected = zipFileSystem.getPath("expected.bin");
+  }
+
+  @AfterEach
+  void tearDown() throws IOException {
+    zipFileSystem.close();
+  }
+
+  @Test
+  void should_return_no_diff_if_paths_have_equal_content() throws IOException {
+    // GIVEN
+    Files.write(actual, new byte[] { 1, 2, 3 });
+    Files.write(expected, new byte[] { 1, 2, 3 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.hasNoDiff()).isTrue();
+  }
+
+  @Test
+  void should_return_diff_if_paths_differ_on_one_byte() throws IOException {
+    // GIVEN
+    Files.write(actual, new byte[] { 1, 2, 3 });
+    Files.write(expected, new byte[] { 1, 4, 3 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, expected);
+    // THEN
+    assertThat(result.offset).isEqualTo(1);
+    assertThat(result.actual).isEqualTo("0x2");
+    assertThat(result.expected).isEqualTo("0x4");
+  }
+
+  @Test
+  void should_return_diff_if_path_is_shorter_than_expected_bytes() throws IOException {
+    // GIVEN
+    Files.write(actual, new byte[] { 1, 2 });
+    // WHEN
+    BinaryDiffResult result = binaryDiff.diff(actual, new byte[] { 1, 2, 3 });
+    // THEN
+    assertThat(result.offset).isEqualTo(2);
+    assertThat(result.actual).isEqualTo("EOF");
+    assertThat(result.expected).isEqualTo("0x3");
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Binary contents are compared by blocks, comparing ten million bytes should take well under a second.
+ */
+class BinaryContentPerfTest {
+
+  private static byte[] tenMillionBytes;
+  private static Path tenMillionBytesPath;
+
+  @BeforeAll
+  static void beforeAll() throws IOException {
+    tenMillionBytes = new byte[10_000_000];
+    for (int i = 0; i < tenMillionBytes.length; i++) {
+      tenMillionBytes[i] = (byte) i;
+    }
+    tenMillionBytesPath = Files.createTempFile("binary-content", ".bin");
+    Files.write(tenMillionBytesPath, tenMillionBytes);
+  }
+
+  @AfterAll
+  static void afterAll() throws IOException {
+    Files.delete(tenMillionBytesPath);
+    tenMillionBytes = null;
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_inputStream_hasBinaryContent_10mBytes() {
+    assertThat(new ByteArrayInputStream(tenMillionBytes)).hasBinaryContent(tenMillionBytes);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_path_hasBinaryContent_10mBytes() {
+    assertThat(tenMillionBytesPath).hasBinaryContent(tenMillionBytes);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_path_hasSameBinaryContentAs_10mBytes() {
+    assertThat(tenMillionBytesPath).hasSameBinaryContentAs(tenMillionBytesPath);
+  }
+
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static java.util.Collections.reverse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that comparing 200 thousand elements in any order is an O(N) rather than O(N^2) operation.
+ * O(N^2) is O(40 billion) which should take at least dozens of seconds while O(N) should take less than a hundred
+ * milliseconds.
+ * <p>
+ * Therefore, 5 seconds (the limit used in the tests below) clearly distinguishes the two complexities on any test agent.
+ */
+class ContainsExactlyInAnyOrderPerfTest {
+
+  private List<Integer> actual;
+  private Integer[] expected;
+
+  @BeforeEach
+  void setUp() {
+    actual = new ArrayList<>();
+    for (int i = 0; i < 200_000; i++) {
+      actual.add(i);
+    }
+    List<Integer> reversed = new ArrayList<>(actual);
+    reverse(reversed);
+    expected = reversed.toArray(new Integer[0]);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactlyInAnyOrder_200kElements() {
+    assertThat(actual).containsExactlyInAnyOrder(expected);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_200kElements_in_a_different_order() {
+    // WHEN
+    Throwable error = catchThrowable(() -> assertThat(actual).containsExactly(expected));
+    // THEN
+    assertThat(error).isInstanceOf(AssertionError.class);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_array_containsExactlyInAnyOrder_200kElements() {
+    assertThat(actual.toArray(new Integer[0])).containsExactlyInAnyOrder(expected);
+  }
+}
@@ -0,0 +1,110 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that looking up 10 thousand values in a list of 1 million elements is an O(N+M) rather than O(N.M)
+ * operation. O(N.M) is O(10 billion) which should take from several dozens to several hundreds seconds while O(N+M)
+ * should take at most a few hundred milliseconds.
+ * <p>
+ * Therefore, 5 seconds (the limit used in the tests below) clearly distinguishes the two complexities on any test agent.
+ */
+class ContainsPerfTest {
+
+  private List<Integer> oneMillionElements;
+  private List<Integer> tenThousandElements;
+  private List<Integer> tenThousandOtherElements;
+
+  @BeforeEach
+  void setUp() {
+    oneMillionElements = integers(0, 1_000_000);
+    tenThousandElements = integers(500_000, 510_000);
+    tenThousandOtherElements = integers(2_000_000, 2_010_000);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_10kValues_in_1mElements() {
+    assertThat(oneMillionElements).contains(tenThousandElements.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsAll_10kValues_in_1mElements() {
+    assertThat(oneMillionElements).containsAll(tenThousandElements);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContain_10kValues_in_1mElements() {
+    assertThat(oneMillionElements).doesNotContain(tenThousandOtherElements.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_1mElements_with_10kElements() {
+    assertThat(tenThousandElements).isSubsetOf(oneMillionElements);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_10kValues_in_1mElements_usingCustomComparator() {
+    assertThat(oneMillionElements).usingElementComparator(Integer::compare)
+                                  .contains(tenThousandElements.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContain_10kValues_in_1mElements_usingCustomComparator() {
+    assertThat(oneMillionElements).usingElementComparator(Integer::compare)
+                                  .doesNotContain(tenThousandOtherElements.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_10kValues_usingCustomComparator() {
+    assertThat(tenThousandElements).usingElementComparator(Integer::compare)
+                                   .containsOnly(tenThousandElements.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnlyOnce_10kValues_in_1mElements_usingCustomComparator() {
+    assertThat(oneMillionElements).usingElementComparator(Integer::compare)
+                                  .containsOnlyOnce(tenThousandElements.toArray(new Integer[0]));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_isSubsetOf_1mElements_with_10kElements_usingCustomComparator() {
+    assertThat(tenThousandElements).usingElementComparator(Integer::compare)
+                                   .isSubsetOf(oneMillionElements);
+  }
+
+  private static List<Integer> integers(int start, int end) {
+    List<Integer> integers = new ArrayList<>(end - start);
+    for (int i = start; i < end; i++) {
+      integers.add(i);
+    }
+    return integers;
+  }
+}
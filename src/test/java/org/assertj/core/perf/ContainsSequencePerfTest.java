@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Sequences whose prefix is repeated all over actual are the worst case of a search comparing the sequence at each index.
+ * <p>
+ * actual is made of 0 except for a 1 at the end, the sequence is 1999 times 0 followed by 1.
+ */
+class ContainsSequencePerfTest {
+
+  private static final int SIZE = 1_000_000;
+  private static final int SEQUENCE_SIZE = 2_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_iterable_containsSequence_2kElements_in_1mElements() {
+    assertThat(oneMillionElements()).containsSequence(sequence());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_iterable_doesNotContainSequence_2kElements_in_1mElements() {
+    // GIVEN
+    List<Integer> oneMillionElements = oneMillionElements();
+    // THEN
+    assertThat(oneMillionElements.subList(0, SIZE - 1)).doesNotContainSequence(sequence());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_array_containsSequence_2kElements_in_1mElements() {
+    assertThat(oneMillionElements().toArray(new Integer[0])).containsSequence(sequence());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_int_array_containsSequence_2kElements_in_1mElements() {
+    // GIVEN
+    int[] oneMillionInts = new int[SIZE];
+    oneMillionInts[SIZE - 1] = 1;
+    int[] intSequence = new int[SEQUENCE_SIZE];
+    intSequence[SEQUENCE_SIZE - 1] = 1;
+    // THEN
+    assertThat(oneMillionInts).containsSequence(intSequence);
+  }
+
+  private static List<Integer> oneMillionElements() {
+    List<Integer> oneMillionElements = new ArrayList<>(nCopies(SIZE, 0));
+    oneMillionElements.set(SIZE - 1, 1);
+    return oneMillionElements;
+  }
+
+  private static Integer[] sequence() {
+    Integer[] sequence = nCopies(SEQUENCE_SIZE, 0).toArray(new Integer[0]);
+    sequence[SEQUENCE_SIZE - 1] = 1;
+    return sequence;
+  }
+
+}
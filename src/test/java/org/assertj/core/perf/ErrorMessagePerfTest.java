@@ -0,0 +1,70 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Only the first and last elements of a large group are displayed in error messages, building the error message of an
+ * assertion failing on 1 million elements should take well under a second.
+ */
+class ErrorMessagePerfTest {
+
+  @Test
+  @Timeout(value = 5)
+  void test_list_error_message_with_1mElements() {
+    // GIVEN
+    List<Integer> oneMillionIntegers = integers(1_000_000);
+    // THEN
+    expectAssertionError(() -> assertThat(oneMillionIntegers).contains(-1));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_set_error_message_with_1mElements() {
+    // GIVEN
+    Set<Integer> oneMillionIntegersSet = new LinkedHashSet<>(integers(1_000_000));
+    // THEN
+    expectAssertionError(() -> assertThat(oneMillionIntegersSet).contains(-1));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_int_array_error_message_with_1mElements() {
+    // GIVEN
+    int[] oneMillionInts = new int[1_000_000];
+    for (int i = 0; i < oneMillionInts.length; i++) {
+      oneMillionInts[i] = i;
+    }
+    // THEN
+    expectAssertionError(() -> assertThat(oneMillionInts).contains(-1));
+  }
+
+  private static List<Integer> integers(int count) {
+    List<Integer> integers = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      integers.add(i);
+    }
+    return integers;
+  }
+
+}
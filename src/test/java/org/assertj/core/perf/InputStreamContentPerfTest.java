@@ -0,0 +1,79 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static java.util.Collections.nCopies;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.io.InputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Equal contents are compared as they are read, comparing two million lines of a hundred characters should neither keep
+ * them in memory nor diff them.
+ */
+class InputStreamContentPerfTest {
+
+  private static final int LINES_COUNT = 2_000_000;
+  private static final String LINE_END = String.join("", nCopies(100, "x")) + "\n";
+
+  @Test
+  @Timeout(value = 5)
+  void test_hasSameContentAs_2mLines() {
+    assertThat(lines(LINES_COUNT, -1)).hasSameContentAs(lines(LINES_COUNT, -1));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_hasSameContentAs_2mLines_differing_at_the_end() {
+    expectAssertionError(() -> assertThat(lines(LINES_COUNT, LINES_COUNT - 1)).hasSameContentAs(lines(LINES_COUNT, -1)));
+  }
+
+  // generates the lines instead of keeping them in memory, the line at differentLineIndex is changed
+  private static InputStream lines(int linesCount, int differentLineIndex) {
+    return new InputStream() {
+      private int lineIndex;
+      private byte[] line = new byte[0];
+      private int position;
+
+      @Override
+      public int read() {
+        if (!nextLineIfNeeded()) return -1;
+        return line[position++];
+      }
+
+      @Override
+      public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) return 0;
+        if (!nextLineIfNeeded()) return -1;
+        int readLength = Math.min(length, line.length - position);
+        System.arraycopy(line, position, bytes, offset, readLength);
+        position += readLength;
+        return readLength;
+      }
+
+      private boolean nextLineIfNeeded() {
+        if (position < line.length) return true;
+        if (lineIndex == linesCount) return false;
+        line = ((lineIndex == differentLineIndex ? "different line " : "line ") + lineIndex + LINE_END).getBytes();
+        lineIndex++;
+        position = 0;
+        return true;
+      }
+    };
+  }
+
+}
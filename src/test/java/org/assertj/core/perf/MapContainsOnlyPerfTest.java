@@ -0,0 +1,109 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.data.MapEntry.entry;
+import static org.assertj.core.util.AssertionsUtil.expectAssertionError;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.assertj.core.data.MapEntry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * This test ensures that comparing a map of 500 thousand entries to 500 thousand expected entries with containsOnly,
+ * containsOnlyKeys and containsExactly is done with a single lookup per entry, it should take well under a second.
+ */
+class MapContainsOnlyPerfTest {
+
+  private static final int SIZE = 500_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_500kEntries() {
+    assertThat(map()).containsOnly(entries());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnly_500kEntries_failing() {
+    // GIVEN
+    Map<Integer, String> map = map();
+    MapEntry<Integer, String>[] entriesWithOneDifferentValue = entriesWithOneDifferentValue();
+    // THEN
+    expectAssertionError(() -> assertThat(map).containsOnly(entriesWithOneDifferentValue));
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsOnlyKeys_500kKeys() {
+    // GIVEN
+    List<Integer> keys = new ArrayList<>();
+    for (int i = 0; i < SIZE; i++) {
+      keys.add(i);
+    }
+    // THEN
+    assertThat(map()).containsOnlyKeys(keys);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_500kEntries() {
+    // GIVEN
+    Map<Integer, String> map = map();
+    MapEntry<Integer, String>[] entries = entries();
+    // THEN
+    assertThat(map).containsExactly(entries);
+    assertThat(new TreeMap<>(map)).containsExactly(entries);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsExactly_500kEntries_failing() {
+    // GIVEN
+    Map<Integer, String> sortedMap = new TreeMap<>(map());
+    MapEntry<Integer, String>[] entriesWithOneDifferentValue = entriesWithOneDifferentValue();
+    // THEN
+    expectAssertionError(() -> assertThat(sortedMap).containsExactly(entriesWithOneDifferentValue));
+  }
+
+  private static Map<Integer, String> map() {
+    Map<Integer, String> map = new LinkedHashMap<>();
+    for (int i = 0; i < SIZE; i++) {
+      map.put(i, String.valueOf(i));
+    }
+    return map;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static MapEntry<Integer, String>[] entries() {
+    MapEntry<Integer, String>[] entries = new MapEntry[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      entries[i] = entry(i, String.valueOf(i));
+    }
+    return entries;
+  }
+
+  private static MapEntry<Integer, String>[] entriesWithOneDifferentValue() {
+    MapEntry<Integer, String>[] entries = entries();
+    entries[SIZE / 2] = entry(SIZE / 2, "different");
+    return entries;
+  }
+
+}
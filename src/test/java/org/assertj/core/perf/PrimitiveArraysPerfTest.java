@@ -0,0 +1,102 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Primitive arrays compared with the standard comparison strategy are compared without boxing their elements, looking up
+ * 10 thousand values in 1 million elements should take well under a second.
+ */
+class PrimitiveArraysPerfTest {
+
+  private static final int SIZE = 1_000_000;
+  private static final int VALUES_COUNT = 10_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_long_array_contains_10kValues_in_1mElements() {
+    assertThat(oneMillionLongs()).contains(tenThousandLongs());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_long_array_containsOnly_10kValues_in_1mElements() {
+    assertThat(oneMillionLongs()).containsOnly(tenThousandLongs());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_double_array_contains_10kValues_in_1mElements() {
+    assertThat(oneMillionDoubles()).contains(tenThousandDoubles());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_double_array_doesNotContain_10kValues_in_1mElements() {
+    assertThat(oneMillionDoubles()).doesNotContain(-1d, 10_000d, Double.NaN);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_double_array_containsExactly_1mElements() {
+    assertThat(oneMillionDoubles()).containsExactly(oneMillionDoubles());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_byte_2d_array_isDeepEqualTo_16mElements() {
+    // GIVEN
+    byte[][] image = new byte[4_000][4_000];
+    byte[][] expected = new byte[4_000][4_000];
+    // THEN
+    assertThat(image).isDeepEqualTo(expected);
+  }
+
+  // values repeated all over the array
+  private static long[] oneMillionLongs() {
+    long[] longs = new long[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      longs[i] = i % VALUES_COUNT;
+    }
+    return longs;
+  }
+
+  private static long[] tenThousandLongs() {
+    long[] longs = new long[VALUES_COUNT];
+    for (int i = 0; i < VALUES_COUNT; i++) {
+      longs[i] = i;
+    }
+    return longs;
+  }
+
+  private static double[] oneMillionDoubles() {
+    double[] doubles = new double[SIZE];
+    for (int i = 0; i < SIZE; i++) {
+      doubles[i] = i % VALUES_COUNT;
+    }
+    return doubles;
+  }
+
+  private static double[] tenThousandDoubles() {
+    double[] doubles = new double[VALUES_COUNT];
+    for (int i = 0; i < VALUES_COUNT; i++) {
+      doubles[i] = i;
+    }
+    return doubles;
+  }
+
+}
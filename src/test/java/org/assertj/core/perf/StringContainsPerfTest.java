@@ -0,0 +1,72 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.perf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+/**
+ * Many values found at the end of a large actual string are the worst case of a search visiting actual once per value.
+ * <p>
+ * actual is made of 'a' except for the values at the end, absent values are made of 'a' followed by 'c'.
+ */
+class StringContainsPerfTest {
+
+  private static final int VALUES_COUNT = 10_000;
+
+  @Test
+  @Timeout(value = 5)
+  void test_contains_10kValues_in_2mChars() {
+    assertThat(twoMillionChars()).contains(values());
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_doesNotContain_10kValues_in_2mChars() {
+    // GIVEN
+    String[] absentValues = new String[VALUES_COUNT];
+    for (int i = 0; i < VALUES_COUNT; i++) {
+      absentValues[i] = "aaaa" + i + "c";
+    }
+    // THEN
+    assertThat(twoMillionChars()).doesNotContain(absentValues);
+  }
+
+  @Test
+  @Timeout(value = 5)
+  void test_containsSubsequence_10kValues_in_2mChars() {
+    assertThat(twoMillionChars()).containsSubsequence(values());
+  }
+
+  private static String[] values() {
+    String[] values = new String[VALUES_COUNT];
+    for (int i = 0; i < VALUES_COUNT; i++) {
+      values[i] = "b" + i;
+    }
+    return values;
+  }
+
+  private static String twoMillionChars() {
+    StringBuilder actual = new StringBuilder();
+    for (int i = 0; i < 2_000_000; i++) {
+      actual.append('a');
+    }
+    for (String value : values()) {
+      actual.append(value);
+    }
+    return actual.toString();
+  }
+
+}
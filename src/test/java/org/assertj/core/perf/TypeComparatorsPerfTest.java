@@ -13,10 +13,12 @@
 package org.assertj.core.perf;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.internal.TypeComparators.defaultTypeComparators;
 
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 
+import org.assertj.core.internal.TypeComparators;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -45,4 +47,26 @@ class TypeComparatorsPerfTest {
     System.out.println("execution time for " + total + " -> " + duration + "ms");
   }
 
+  // execution time for 10_000_000 lookups of a type without comparator:
+  // walking the type hierarchy: ~3500ms
+  // with resolved comparators cached per type: ~100ms
+
+  // comment @Disabled to run the test
+  @Disabled
+  @Test
+  void run_10_000_000_type_comparator_lookups() {
+    long start = System.currentTimeMillis();
+    // GIVEN
+    int total = 10_000_000;
+    TypeComparators typeComparators = defaultTypeComparators();
+    // WHEN
+    for (int i = 0; i < total; i++) {
+      typeComparators.get(StringBuilder.class);
+    }
+    // THEN
+    long end = System.currentTimeMillis();
+    long duration = ChronoUnit.MILLIS.between(Instant.ofEpochMilli(start), Instant.ofEpochMilli(end));
+    System.out.println("execution time for " + total + " -> " + duration + "ms");
+  }
+
 }
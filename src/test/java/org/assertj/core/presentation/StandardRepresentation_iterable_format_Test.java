@@ -15,11 +15,15 @@ package org.assertj.core.presentation;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toCollection;
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.presentation.StandardRepresentation.STANDARD_REPRESENTATION;
 import static org.assertj.core.util.Lists.list;
 
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -171,6 +175,49 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     then(formatted).isEqualTo(format("[\"First\", 3, 4, ... 5, \"another\", 6]"));
   }
 
+  @Test
+  void should_only_represent_the_displayed_elements_of_a_list() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    List<ToStringCounter> list = Stream.generate(ToStringCounter::new).limit(1_000).collect(toList());
+    // WHEN
+    STANDARD_REPRESENTATION.toStringOf(list);
+    // THEN
+    then(list).filteredOn(element -> element.toStringCount > 0).hasSize(4);
+  }
+
+  @Test
+  void should_only_represent_the_displayed_elements_of_a_non_list_iterable() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(4);
+    Set<ToStringCounter> set = Stream.generate(ToStringCounter::new).limit(1_000).collect(toCollection(LinkedHashSet::new));
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(set);
+    // THEN
+    then(set).filteredOn(element -> element.toStringCount > 0).hasSize(4);
+    then(formatted).isEqualTo("[ToStringCounter, ToStringCounter, ... ToStringCounter, ToStringCounter]");
+  }
+
+  @Test
+  void should_format_non_list_iterable_up_to_the_maximum_allowed_elements() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(5);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(new LinkedHashSet<>(list(1, 2, 3, 4, 5, 6, 7, 8)));
+    // THEN
+    then(formatted).isEqualTo("[1, 2, 3, ... 7, 8]");
+  }
+
+  @Test
+  void should_format_non_list_iterable_with_as_many_elements_as_the_maximum_allowed() {
+    // GIVEN
+    StandardRepresentation.setMaxElementsForPrinting(5);
+    // WHEN
+    String formatted = STANDARD_REPRESENTATION.toStringOf(new LinkedHashSet<>(list(1, 2, 3, 4, 5)));
+    // THEN
+    then(formatted).isEqualTo("[1, 2, 3, 4, 5]");
+  }
+
   @Test
   void should_format_iterable_with_an_element_per_line_according_the_given_representation() {
     // GIVEN
@@ -239,4 +286,15 @@ class StandardRepresentation_iterable_format_Test extends AbstractBaseRepresenta
     return Stream.generate(() -> "a").limit(length).collect(joining());
   }
 
+  private static class ToStringCounter {
+
+    private int toStringCount;
+
+    @Override
+    public String toString() {
+      toStringCount++;
+      return "ToStringCounter";
+    }
+  }
+
 }
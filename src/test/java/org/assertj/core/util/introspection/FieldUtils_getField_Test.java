@@ -0,0 +1,68 @@
+/*
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * Copyright 2012-2020 the original author or authors.
+ */
+package org.assertj.core.util.introspection;
+
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.assertj.core.api.BDDAssertions.then;
+
+import java.lang.reflect.Field;
+
+import org.assertj.core.test.Jedi;
+import org.junit.jupiter.api.Test;
+
+class FieldUtils_getField_Test {
+
+  @Test
+  void should_return_the_same_field_for_subsequent_lookups() throws Exception {
+    // GIVEN
+    Field field = FieldUtils.getField(Jedi.class, "lightSaberColor", false);
+    // WHEN
+    Field sameField = FieldUtils.getField(Jedi.class, "lightSaberColor", false);
+    // THEN
+    then(sameField).isSameAs(field);
+  }
+
+  @Test
+  void should_return_null_for_subsequent_lookups_of_an_unknown_field() throws Exception {
+    // GIVEN
+    FieldUtils.getField(Jedi.class, "unknown", true);
+    // WHEN
+    Field field = FieldUtils.getField(Jedi.class, "unknown", true);
+    // THEN
+    then(field).isNull();
+  }
+
+  @Test
+  void should_honor_force_access_for_a_private_field_already_looked_up() throws Exception {
+    // GIVEN
+    Field field = FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", true);
+    // WHEN
+    Throwable throwable = catchThrowable(() -> FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", false));
+    // THEN
+    then(field).isNotNull();
+    then(throwable).isInstanceOf(IllegalAccessException.class);
+  }
+
+  @Test
+  void should_return_an_accessible_private_field_when_forcing_access_after_a_lookup_without_it() throws Exception {
+    // GIVEN
+    Jedi jedi = new Jedi("Yoda", "Green");
+    jedi.setStrangeNotReadablePrivateField("strange");
+    catchThrowable(() -> FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", false));
+    // WHEN
+    Field field = FieldUtils.getField(Jedi.class, "strangeNotReadablePrivateField", true);
+    // THEN
+    then(field.get(jedi)).isEqualTo("strange");
+  }
+
+}
@@ -233,6 +233,47 @@ class PropertyOrFieldSupport_getValueOf_Test {
     then(value).isEqualTo("New York");
   }
 
+  @Test
+  void should_extract_values_of_different_instances_of_the_same_class() {
+    // GIVEN
+    Employee luke = new Employee(2L, new Name("Luke", "Skywalker"), 26);
+    underTest.getValueOf("age", yoda);
+    underTest.getValueOf("id", yoda);
+    // WHEN
+    Object age = underTest.getValueOf("age", luke);
+    Object id = underTest.getValueOf("id", luke);
+    // THEN
+    then(age).isEqualTo(26);
+    then(id).isEqualTo(2L);
+  }
+
+  @Test
+  void should_fallback_to_field_if_exception_has_been_thrown_on_property_access_of_an_instance_already_read() {
+    // GIVEN
+    FailingNameEmployee employee = new FailingNameEmployee();
+    then(underTest.getValueOf("name", employee)).isEqualTo(new Name("name from getter"));
+    employee.failing = true;
+    // WHEN
+    Object extractedValue = underTest.getValueOf("name", employee);
+    // THEN
+    then(extractedValue).isEqualTo(new Name("name field"));
+  }
+
+  @Test
+  void should_throw_error_when_private_fields_are_not_allowed_anymore() {
+    // GIVEN
+    then(underTest.getValueOf("city", yoda)).isEqualTo("New York");
+    underTest.setAllowUsingPrivateFields(false);
+    try {
+      // WHEN
+      Throwable thrown = catchThrowable(() -> underTest.getValueOf("city", yoda));
+      // THEN
+      then(thrown).isInstanceOf(IntrospectionError.class);
+    } finally {
+      underTest.setAllowUsingPrivateFields(true);
+    }
+  }
+
   private Employee employeeWithBrokenName(String name) {
     return new Employee(1L, new Name(name), 0) {
       @Override
@@ -251,6 +292,20 @@ class PropertyOrFieldSupport_getValueOf_Test {
     };
   }
 
+  static class FailingNameEmployee extends Employee {
+    boolean failing = false;
+
+    FailingNameEmployee() {
+      super(1L, new Name("name field"), 0);
+    }
+
+    @Override
+    public Name getName() {
+      if (failing) throw new IllegalStateException();
+      return new Name("name from getter");
+    }
+  }
+
   private Employee brokenEmployee() {
     return new Employee() {
       @Override